@@ -103,14 +103,14 @@ class CardTableController {
     game = superController.getGame();
     player = (BlackjackPlayer) game.getPlayer();
     dealerHand = game.getDealer().getHand();
-    playerCards = game.getPlayer().getHand().getCards();
     playerHand = player.getHand();
+    playerCards = ((BlackjackHand) playerHand).getCards();
     command = new CommandInvoker();
     playerScore = new Text();
     playerScore.getStyleClass().add("score");
     dealerScore = new Text();
     dealerScore.getStyleClass().add("score");
-    dealerCards = dealerHand.getCards();
+    dealerCards = ((BlackjackHand) dealerHand).getCards();
 
     configureBindings();
     configureListeners();
@@ -1,5 +1,7 @@
 package com.frijolie.cards.blackjack.controller;
 
+import com.frijolie.cards.blackjack.model.game.BlackjackGame;
+
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -39,7 +41,15 @@ class MainWindowController {
     return borderPane;
   }
 
+  /**
+   * Displays the basic strategy table beside the card table. The action it recommends for the
+   * current hand, and the best action for the cards remaining in the shoe, are shown in the status
+   * bar.
+   */
   final void displayHint() {
+    BlackjackGame game = superController.getGame();
+    superController.setStatusText("Hint: " + game.getHint() + ", best for this shoe: "
+        + game.getExpectedValues().best());
     WebView browser = new WebView();
     WebEngine engine = browser.getEngine();
     URL url = this.getClass().getResource("/html/BlackjackStrategyTable.html");
@@ -17,6 +17,7 @@ public class BlackjackCard implements Card {
 
   private final Rank rank;
   private final Suit suit;
+  private final int code;
 
   /**
    * Constructor. Must supply a {@link Rank} and {@link Suit}.
@@ -27,6 +28,7 @@ public class BlackjackCard implements Card {
   public BlackjackCard(final Rank rank, final Suit suit) {
     this.rank = rank;
     this.suit = suit;
+    this.code = CardTable.code(rank, suit);
   }
 
   @Override
@@ -44,14 +46,20 @@ public class BlackjackCard implements Card {
     return rank.getValue();
   }
 
+  @Override
+  public final int getCode() {
+    return code;
+  }
+
   /**
-   * Generates then returns the hash of the cards {@link Rank} and {@link Suit}.
+   * Returns the hash of the card. This is the card code, which is calculated once from the {@link
+   * Rank} and {@link Suit} ordinals when the card is created. No two distinct cards share a hash.
    *
-   * @return an int value which is comprised of the hash of Rank and Suit.
+   * @return an int value which is comprised of the Rank and Suit.
    */
   @Override
   public int hashCode() {
-    return Objects.hash(getRank(), getSuit());
+    return code;
   }
 
   /**
@@ -69,9 +77,8 @@ public class BlackjackCard implements Card {
    * Compares this card to the Object {@code param}. Will return {@code true} if both objects are
    * equal.
    *
-   * <p>To make the comparison, a call is made to {@link #compareTo(Card)}. That method first
-   * compares {@link Rank} then {@link Suit}. If both are equal the {@code Card} is then considered
-   * to be equal.
+   * <p>Both the {@link Rank} and {@link Suit} are compared. If both are equal the {@code Card} is
+   * then considered to be equal.
    *
    * @param o the object to be compared with {@code this}
    * @return {@code true} if both objects in the comparison are equal
@@ -79,8 +86,7 @@ public class BlackjackCard implements Card {
    */
   @Override
   public boolean equals(Object o) {
-    String nullError = "You must pass a non-null card for comparison";
-    Objects.requireNonNull(o, nullError);
+    Objects.requireNonNull(o, "You must pass a non-null card for comparison");
 
     if (this == o) {
       return true;
@@ -91,6 +97,6 @@ public class BlackjackCard implements Card {
     }
 
     Card card = (Card) o;
-    return compareTo(card) == 0;
+    return rank == card.getRank() && suit == card.getSuit();
   }
 }
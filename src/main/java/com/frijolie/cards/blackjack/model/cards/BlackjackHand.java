@@ -1,15 +1,14 @@
 package com.frijolie.cards.blackjack.model.cards;
 
 import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
 
 import java.util.Objects;
-import java.util.stream.Collectors;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.value.ObservableValue;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanPropertyBase;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerPropertyBase;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -24,50 +23,90 @@ import javafx.collections.ObservableList;
  * <p>Every Hand will have a cumulative value, a {@link HandResult}, and other various states and
  * behaviors. The values of these states will be dependent on the strength of the cards in the Hand.
  *
+ * <p>The states are calculated by a {@link HeadlessHand}. This class adapts it for the user
+ * interface by publishing the cards as an {@link ObservableList} and each state as a JavaFX
+ * property. Code which does not observe the hand should use a {@code HeadlessHand} directly.
+ *
+ * <p>The properties are updated as a batch. Every new value is staged before any listener is
+ * notified, then each property which changed is published. A listener therefore never sees a hand
+ * which is half updated, for example a new score alongside a stale {@code canHit}. A state changed
+ * by a listener while the batch is being published is staged and published in the same batch.
+ *
  * @see Hand
  * @see Card
  * @see Shoe
  * @see HandResult
+ * @see HeadlessHand
  */
 public class BlackjackHand implements Hand, HandPermissions {
 
+  private final HeadlessHand headlessHand;
   private ObservableList<Card> hand;
-  private IntegerProperty score;
-  private BooleanProperty canSplit;
-  private BooleanProperty canDouble;
-  private BooleanProperty canHit;
-  private BooleanProperty isBust;
-  private BooleanProperty isSoft;
-  private BooleanProperty hasBlackjack;
-  private HandResult handResult;
-  private HandState handState;
+  private HandIntegerProperty score;
+  private HandBooleanProperty canSplit;
+  private HandBooleanProperty canDouble;
+  private HandBooleanProperty canHit;
+  private HandBooleanProperty isBust;
+  private HandBooleanProperty isSoft;
+  private HandBooleanProperty hasBlackjack;
+  private HandBooleanProperty[] batch;
+  private boolean publishing;
 
   /**
-   * No-arg constructor. Sets variable defaults.
+   * No-arg constructor. Sets variable defaults. The rules are a snapshot of {@link GameRules}
+   * taken when the hand is created.
    */
   public BlackjackHand() {
+    this(new HeadlessHand());
+  }
+
+  /**
+   * Overloaded constructor. Sets variable defaults. The rules are read from the given {@link
+   * RuleSet}.
+   *
+   * @param rules of the table the hand is played at
+   * @throws NullPointerException if rules is null
+   */
+  public BlackjackHand(final RuleSet rules) {
+    this(new HeadlessHand(rules));
+  }
+
+  private BlackjackHand(final HeadlessHand headlessHand) {
+    this.headlessHand = headlessHand;
     hand = FXCollections.observableArrayList();
-    score = new SimpleIntegerProperty(0);
-    canSplit = new SimpleBooleanProperty(false);
-    canDouble = new SimpleBooleanProperty(false);
-    canHit = new SimpleBooleanProperty(false);
-    isBust = new SimpleBooleanProperty(false);
-    isSoft = new SimpleBooleanProperty(false);
-    hasBlackjack = new SimpleBooleanProperty(false);
-    handResult = HandResult.TBD;
-    handState = HandState.ACTIVE;
+    score = new HandIntegerProperty("score");
+    canSplit = new HandBooleanProperty("canSplit");
+    canDouble = new HandBooleanProperty("canDouble");
+    canHit = new HandBooleanProperty("canHit");
+    isBust = new HandBooleanProperty("isBust");
+    isSoft = new HandBooleanProperty("isSoft");
+    hasBlackjack = new HandBooleanProperty("hasBlackjack");
+    batch = new HandBooleanProperty[] {canSplit, canDouble, canHit, hasBlackjack, isSoft, isBust};
     hand.addListener((ListChangeListener<? super Card>) this::onChanged);
-    isBustProperty().addListener(this::onBust);
-    hasBlackjackProperty().addListener(this::onBlackjack);
   }
 
   @Override
   public final void addCard(Card card) {
     String message = "The card could not be added to the hand. It is null.";
     Objects.requireNonNull(card, message);
+    headlessHand.addCard(card);
+    stage();
     hand.add(card);
   }
 
+  /**
+   * Removes every card from the Hand and returns each state to its default. The cards are removed
+   * from the observable list first, then the new states are published as a single batch. No new
+   * objects are created, and every listener remains registered.
+   */
+  @Override
+  public final void reset() {
+    headlessHand.reset();
+    stage();
+    hand.clear();
+    publish();
+  }
+
   @Override
   public final int getScore() {
     return score.get();
@@ -76,41 +115,30 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the IntegerProperty of score.
    *
-   * @return an IntegerProperty
+   * @return a ReadOnlyIntegerProperty
    */
-  public final IntegerProperty scoreProperty() {
+  public final ReadOnlyIntegerProperty scoreProperty() {
     return score;
   }
 
-  /**
-   * Calculates the highest possible score of all cards in the Hand. After the calculation has been
-   * made the value is set in {@link #score}.
-   *
-   * <p>It adjusts for Aces being 1 or 11 points.
-   */
-  private void calculateScore() {
-    /*
-     determine the maximum total value of all cards in the hand.
-    */
-    int highScore = hand.stream().mapToInt(Card::getValue).sum();
-
-    /*
-     need to know how many aces are in the hand. Ace may equal 1 or 11 pts.
-    */
-    int numberOfAces = numberOfAces();
-
-    /*
-     decrement the value of an Ace if it would cause BUST. It is possible to have
-     more than one Ace in the Hand.
-    */
-    while (highScore > GameRules.MAX_SCORE && numberOfAces > 0) {
-      /*
-       reduce the value of an Ace by 10 points. An Ace is now worth 1 pt.
-      */
-      highScore -= 10;
-      numberOfAces--;
-    }
-    score.set(highScore);
+  @Override
+  public final int getStateId() {
+    return headlessHand.getStateId();
+  }
+
+  @Override
+  public final int getHardTotal() {
+    return headlessHand.getHardTotal();
+  }
+
+  @Override
+  public final int getSoftTotal() {
+    return headlessHand.getSoftTotal();
+  }
+
+  @Override
+  public final boolean isSoftTotal() {
+    return headlessHand.isSoftTotal();
   }
 
   @Override
@@ -121,21 +149,12 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of isBust.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty isBustProperty() {
+  public final ReadOnlyBooleanProperty isBustProperty() {
     return isBust;
   }
 
-  /**
-   * Calculates the value of {@link #isBust}. This is determined by the score of the hand. Will be
-   * {@code true} if the score is greater than 21. After the calculation has been made, the value is
-   * set in isBust.
-   */
-  private void calculateIsBust() {
-    isBust.set(getScore() > GameRules.MAX_SCORE);
-  }
-
   @Override
   public final boolean isSoft() {
     return isSoft.get();
@@ -144,21 +163,12 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of isSoft.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty isSoftProperty() {
+  public final ReadOnlyBooleanProperty isSoftProperty() {
     return isSoft;
   }
 
-  /**
-   * Calculates the value of {@link #isSoft}. Will be {@code true} if the hand has exactly two cards
-   * and has contains one or two Aces. After the calculation has been made, the value is set in
-   * isSoft.
-   */
-  private void calculateIsSoft() {
-    isSoft.set(hasTwoCards() && numberOfAces() <= 2);
-  }
-
   @Override
   public final boolean hasBlackjack() {
     return hasBlackjack.get();
@@ -167,21 +177,12 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of hasBlackjack.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty hasBlackjackProperty() {
+  public final ReadOnlyBooleanProperty hasBlackjackProperty() {
     return hasBlackjack;
   }
 
-  /**
-   * Calculates if the hand has blackjack. This will be {@code true} if the hand has exactly two
-   * cards and their score equals 21. After the calculation has been made, the value is set in
-   * {@link #hasBlackjack}.
-   */
-  private void calculateHasBlackjack() {
-    hasBlackjack.set(hasTwoCards() && getScore() == GameRules.MAX_SCORE);
-  }
-
   @Override
   public final ObservableList<Card> getCards() {
     return hand;
@@ -189,26 +190,24 @@ public class BlackjackHand implements Hand, HandPermissions {
 
   @Override
   public final HandResult getHandResult() {
-    return handResult;
+    return headlessHand.getHandResult();
   }
 
   @Override
   public final void setHandResult(HandResult result) {
-    handResult = result;
+    headlessHand.setHandResult(result);
   }
 
   @Override
   public final HandState getHandState() {
-    return handState;
+    return headlessHand.getHandState();
   }
 
   @Override
   public final void setHandState(HandState state) {
-    handState = state;
-    if (state == HandState.INACTIVE) {
-      canHit.set(false);
-      canDouble.set(false);
-    }
+    headlessHand.setHandState(state);
+    stage();
+    publish();
   }
 
   /**
@@ -217,7 +216,7 @@ public class BlackjackHand implements Hand, HandPermissions {
    * @return a count of all Aces currently in the Hand.
    */
   final int numberOfAces() {
-    return (int) hand.stream().filter(card -> card.getRank() == Rank.ACE).count();
+    return headlessHand.numberOfAces();
   }
 
   @Override
@@ -228,32 +227,12 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of canSplit.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty canSplitProperty() {
+  public final ReadOnlyBooleanProperty canSplitProperty() {
     return canSplit;
   }
 
-  /**
-   * Calculates the value of {@link #canSplit}. A hand may be split if the hand has exactly two
-   * cards and they are of the same {@link Rank}. After the calculation has been made, the value is
-   * set.
-   */
-  private void calculateCanSplit() {
-    if (GameRules.SPLITS_ALLOWED && hasTwoCards()) {
-      Card firstCard = getCards().get(0);
-      Card secondCard = getCards().get(1);
-
-      if (GameRules.SPLIT_ON_VALUE) {
-        canSplit.set(firstCard.sameValue(secondCard));
-      } else {
-        canSplit.set(firstCard.sameRank(secondCard));
-      }
-    } else {
-      canSplit.set(false);
-    }
-  }
-
   @Override
   public final boolean canDouble() {
     return canDouble.get();
@@ -262,37 +241,48 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of canDouble.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty canDoubleProperty() {
+  public final ReadOnlyBooleanProperty canDoubleProperty() {
     return canDouble;
   }
 
   /**
-   * Calculates the value of {@link #canDouble}. A player may double down if the hand has exactly
-   * two cards and the score is 9, 10, or 11 points. After the calculation has been made, the value
-   * is set in {@link #canDouble}.
+   * Copies each state of the {@link HeadlessHand} into its property without notifying any
+   * listener. Should be called each time the hand has changed, followed by {@link #publish()}.
    */
-  private void calculateCanDouble() {
-    if (GameRules.DOUBLE_DOWN_ALLOWED && hasTwoCards()) {
-      canDouble.set(getScore() > 8 && getScore() < 12);
-    } else {
-      canDouble.set(false);
-    }
+  private void stage() {
+    score.stage(headlessHand.getScore());
+    canSplit.stage(headlessHand.canSplit());
+    canDouble.stage(headlessHand.canDouble());
+    canHit.stage(headlessHand.canHit());
+    hasBlackjack.stage(headlessHand.hasBlackjack());
+    isSoft.stage(headlessHand.isSoft());
+    isBust.stage(headlessHand.isBust());
   }
 
   /**
-   * Makes several calls to recalculate the various states of the hand. Should be called each time a
-   * card has been added.
+   * Notifies the listeners of every property whose staged value differs from the one last
+   * published. If a listener changes the hand, the new values are staged and this method is
+   * re-entered. The re-entrant call returns immediately and the outer call publishes the new values
+   * on its next pass.
    */
-  private void update() {
-    calculateScore();
-    calculateCanSplit();
-    calculateCanDouble();
-    calculateCanHit();
-    calculateHasBlackjack();
-    calculateIsSoft();
-    calculateIsBust();
+  private void publish() {
+    if (publishing) {
+      return;
+    }
+    publishing = true;
+    try {
+      boolean changed;
+      do {
+        changed = score.publish();
+        for (HandBooleanProperty property : batch) {
+          changed |= property.publish();
+        }
+      } while (changed);
+    } finally {
+      publishing = false;
+    }
   }
 
   @Override
@@ -303,21 +293,12 @@ public class BlackjackHand implements Hand, HandPermissions {
   /**
    * Returns the BooleanProperty of canHit.
    *
-   * @return a BooleanProperty
+   * @return a ReadOnlyBooleanProperty
    */
-  public final BooleanProperty canHitProperty() {
+  public final ReadOnlyBooleanProperty canHitProperty() {
     return canHit;
   }
 
-  /**
-   * Calculates if the hand can allow additional cards to be added. This is determined to be {@code
-   * true} as long as the {@code score} is less than 21. After the calculation has been made, the
-   * value is set in {@link #canHit}.
-   */
-  private void calculateCanHit() {
-    canHit.set(getScore() < GameRules.MAX_SCORE);
-  }
-
   /**
    * Returns a string representation of all cards in the hand. This method utilizes {@link
    * BlackjackCard#toString()} to display the value of each individual card. The cards are then
@@ -327,52 +308,110 @@ public class BlackjackHand implements Hand, HandPermissions {
    */
   @Override
   public final String toString() {
-    return hand.stream().map(Object::toString).collect(Collectors.joining(" "));
+    return headlessHand.toString();
   }
 
   @Override
   public final boolean hasTwoCards() {
-    return hand.size() == 2;
+    return headlessHand.hasTwoCards();
   }
 
   /**
-   * Will trigger a call to {@link #update()} anytime a card is added to the hand.
+   * Will trigger a call to {@link #publish()} anytime a card is added to the hand.
    *
    * @param c the change that was made to the collection
    */
   private void onChanged(ListChangeListener.Change c) {
     while (c.next()) {
       if (c.wasAdded()) {
-        update();
+        publish();
       }
     }
   }
 
   /**
-   * Will trigger the {@link HandState} to become inactive if the player isBust.
-   *
-   * @param observable the object that triggered the change
-   * @param oldValue   the previous value
-   * @param isBust     the new value
+   * A read-only boolean property of the hand. A new value is staged silently, then published to
+   * the listeners only if it differs from the value last published.
    */
-  private void onBust(
-      ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean isBust) {
-    if (isBust) {
-      setHandState(HandState.INACTIVE);
+  private final class HandBooleanProperty extends ReadOnlyBooleanPropertyBase {
+
+    private final String name;
+    private boolean value;
+    private boolean published;
+
+    private HandBooleanProperty(final String name) {
+      this.name = name;
+    }
+
+    private void stage(final boolean value) {
+      this.value = value;
+    }
+
+    private boolean publish() {
+      if (value == published) {
+        return false;
+      }
+      published = value;
+      fireValueChangedEvent();
+      return true;
+    }
+
+    @Override
+    public boolean get() {
+      return value;
+    }
+
+    @Override
+    public Object getBean() {
+      return BlackjackHand.this;
+    }
+
+    @Override
+    public String getName() {
+      return name;
     }
   }
 
   /**
-   * Will trigger the {@link HandState} to be come inactive if the player has Blackjack.
-   *
-   * @param observable   the object which was modified
-   * @param oldValue     the previous value
-   * @param hasBlackjack the new value
+   * A read-only integer property of the hand. A new value is staged silently, then published to
+   * the listeners only if it differs from the value last published.
    */
-  private void onBlackjack(
-      ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean hasBlackjack) {
-    if (hasBlackjack) {
-      setHandState(HandState.INACTIVE);
+  private final class HandIntegerProperty extends ReadOnlyIntegerPropertyBase {
+
+    private final String name;
+    private int value;
+    private int published;
+
+    private HandIntegerProperty(final String name) {
+      this.name = name;
+    }
+
+    private void stage(final int value) {
+      this.value = value;
+    }
+
+    private boolean publish() {
+      if (value == published) {
+        return false;
+      }
+      published = value;
+      fireValueChangedEvent();
+      return true;
+    }
+
+    @Override
+    public int get() {
+      return value;
+    }
+
+    @Override
+    public Object getBean() {
+      return BlackjackHand.this;
+    }
+
+    @Override
+    public String getName() {
+      return name;
     }
   }
 }
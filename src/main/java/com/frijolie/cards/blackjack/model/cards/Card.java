@@ -1,7 +1,5 @@
 package com.frijolie.cards.blackjack.model.cards;
 
-import static java.util.Comparator.comparing;
-
 import java.util.Objects;
 
 /**
@@ -17,6 +15,34 @@ import java.util.Objects;
  */
 public interface Card extends Comparable<Card> {
 
+  /**
+   * Returns the shared instance of the card with the given {@link Rank} and {@link Suit}. The same
+   * instance is returned on every call, therefore cards obtained here may be compared by identity.
+   *
+   * @param rank the card Rank
+   * @param suit the card Suit
+   * @return the canonical Card
+   * @throws NullPointerException if either param is null
+   */
+  static Card of(Rank rank, Suit suit) {
+    Objects.requireNonNull(rank, "You must pass a non-null rank");
+    Objects.requireNonNull(suit, "You must pass a non-null suit");
+    return CardTable.get(CardTable.code(rank, suit));
+  }
+
+  /**
+   * Returns the shared instance of the card with the given code. The code of a card is {@code
+   * rank.ordinal() * 4 + suit.ordinal()}.
+   *
+   * @param code between 0 and 51
+   * @return the canonical Card
+   * @throws IllegalArgumentException if the code is out of range
+   * @see #getCode()
+   */
+  static Card of(int code) {
+    return CardTable.get(code);
+  }
+
   /**
    * Returns the {@link Rank} of the card. For example, Rank.ACE
    *
@@ -38,6 +64,17 @@ public interface Card extends Comparable<Card> {
    */
   int getValue();
 
+  /**
+   * Returns the code of the card, a number between 0 and 51. It is calculated as {@code
+   * rank.ordinal() * 4 + suit.ordinal()}.
+   *
+   * @return the card code
+   * @see #of(int)
+   */
+  default int getCode() {
+    return CardTable.code(getRank(), getSuit());
+  }
+
   /**
    * Returns {@code true} if this card and the one being compared have the same {@link Rank}.
    *
@@ -46,9 +83,8 @@ public interface Card extends Comparable<Card> {
    * @throws NullPointerException if the card param is null
    */
   default boolean sameRank(Card card) {
-    String nullError = "You must pass a non null card for comparison";
-    Objects.requireNonNull(card, nullError);
-    return comparing(Card::getRank).compare(this, card) == 0;
+    Objects.requireNonNull(card, "You must pass a non null card for comparison");
+    return getRank() == card.getRank();
   }
 
   /**
@@ -59,9 +95,8 @@ public interface Card extends Comparable<Card> {
    * @throws NullPointerException if the card param is null
    */
   default boolean sameValue(Card card) {
-    String nullError = "You must pass a non null card for comparison";
-    Objects.requireNonNull(card, nullError);
-    return comparing(Card::getValue).compare(this, card) == 0;
+    Objects.requireNonNull(card, "You must pass a non null card for comparison");
+    return getValue() == card.getValue();
   }
 
   /**
@@ -76,8 +111,11 @@ public interface Card extends Comparable<Card> {
    */
   @Override
   default int compareTo(Card card) {
-    String nullError = "You must pass a non-null card for comparison";
-    Objects.requireNonNull(card, nullError);
-    return comparing(Card::getRank).thenComparing(Card::getSuit).compare(this, card);
+    Objects.requireNonNull(card, "You must pass a non-null card for comparison");
+    int rankDifference = getRank().ordinal() - card.getRank().ordinal();
+    if (rankDifference != 0) {
+      return rankDifference;
+    }
+    return getSuit().ordinal() - card.getSuit().ordinal();
   }
 }
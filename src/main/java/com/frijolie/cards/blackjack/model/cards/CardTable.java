@@ -0,0 +1,81 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+/**
+ * CardTable holds the single canonical instance of every {@link Card} in the game.
+ *
+ * <p>There are only 52 distinct cards. Rather than each {@link Deck} or {@link Shoe} creating its
+ * own copies, every card is created once and shared. Each card is stored at the index given by its
+ * code, {@code rank.ordinal() * 4 + suit.ordinal()}.
+ *
+ * @see Card#of(Rank, Suit)
+ * @see Card#of(int)
+ */
+final class CardTable {
+
+  /**
+   * The number of distinct cards, one for each combination of {@link Rank} and {@link Suit}.
+   */
+  static final int SIZE = Rank.values().length * Suit.values().length;
+
+  private static final int SUITS = Suit.values().length;
+
+  private static final Card[] CARDS = new Card[SIZE];
+  private static final byte[] VALUES = new byte[SIZE];
+
+  static {
+    for (Rank rank : Rank.values()) {
+      for (Suit suit : Suit.values()) {
+        CARDS[code(rank, suit)] = new BlackjackCard(rank, suit);
+        VALUES[code(rank, suit)] = (byte) rank.getValue();
+      }
+    }
+  }
+
+  private CardTable() {
+  }
+
+  /**
+   * Returns the code of the card with the given {@link Rank} and {@link Suit}.
+   *
+   * @param rank the card Rank
+   * @param suit the card Suit
+   * @return a code between 0 and 51
+   */
+  static int code(final Rank rank, final Suit suit) {
+    return rank.ordinal() * SUITS + suit.ordinal();
+  }
+
+  /**
+   * Returns the canonical card for the given code.
+   *
+   * @param code between 0 and 51
+   * @return the shared Card instance
+   * @throws IllegalArgumentException if the code is out of range
+   */
+  static Card get(final int code) {
+    if (code < 0 || code >= SIZE) {
+      throw new IllegalArgumentException(
+          String.format("A card code must be between 0 and %d. It was: %d", SIZE - 1, code));
+    }
+    return CARDS[code];
+  }
+
+  /**
+   * Returns the blackjack value of the card with the given code. No bounds check is made.
+   *
+   * @param code between 0 and 51
+   * @return the value of the card's Rank
+   */
+  static int value(final int code) {
+    return VALUES[code];
+  }
+
+  /**
+   * Returns a copy of the table. The cards themselves are shared, not copied.
+   *
+   * @return all 52 canonical cards ordered by code
+   */
+  static Card[] cards() {
+    return CARDS.clone();
+  }
+}
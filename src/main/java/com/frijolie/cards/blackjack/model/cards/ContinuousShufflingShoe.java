@@ -0,0 +1,185 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * ContinuousShufflingShoe models a continuous shuffling machine (CSM). Unlike a {@link Shoe}, there
+ * is no cut card. The cards discarded at the end of each round are placed back in the machine at
+ * random positions, and play continues.
+ *
+ * <p>Because every card in the machine is equally likely to be dealt next, the order of the cards
+ * is not stored at all. The machine only keeps how many copies of each of the 52 cards it holds.
+ * These counts are kept in a Fenwick tree, which allows a card to be drawn at random or returned to
+ * the machine in {@code O(log 52)} time without rebuilding anything between rounds.
+ *
+ * @see Shoe
+ * @see Card#getCode()
+ */
+public class ContinuousShufflingShoe {
+
+  private final int[] tree;
+  private final int[] counts;
+  private final int highestBit;
+  private final int size;
+  private final SplittableRandom random;
+  private int remaining;
+
+  /**
+   * Default no-arg constructor. Will load the machine with {@link
+   * GameRules#DEFAULT_NUMBER_OF_DECKS}.
+   */
+  public ContinuousShufflingShoe() {
+    this(GameRules.DEFAULT_NUMBER_OF_DECKS);
+  }
+
+  /**
+   * Overloaded constructor. Loads the machine with a customizable number of decks. As with a {@link
+   * Shoe}, the number is kept between {@link GameRules#MIN_NUMBER_OF_DECKS} and {@link
+   * GameRules#MAX_NUMBER_OF_DECKS}.
+   *
+   * @param numberOfDecks the number of decks loaded in the machine
+   */
+  public ContinuousShufflingShoe(final int numberOfDecks) {
+    this(numberOfDecks, new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Loads the machine with a customizable number of decks, and draws cards
+   * with the given generator. The generator must not be shared with another thread.
+   *
+   * @param numberOfDecks the number of decks loaded in the machine
+   * @param random        the generator used to draw cards
+   * @throws NullPointerException if random is null
+   */
+  public ContinuousShufflingShoe(final int numberOfDecks, final SplittableRandom random) {
+    this.random = Objects.requireNonNull(random, "You must pass a non-null generator");
+    tree = new int[CardTable.SIZE + 1];
+    counts = new int[CardTable.SIZE];
+    highestBit = Integer.highestOneBit(CardTable.SIZE);
+    int decks = Math.max(GameRules.MIN_NUMBER_OF_DECKS,
+        Math.min(GameRules.MAX_NUMBER_OF_DECKS, numberOfDecks));
+    size = decks * CardTable.SIZE;
+    for (int code = 0; code < CardTable.SIZE; code++) {
+      insert(code, decks);
+    }
+  }
+
+  /**
+   * Adds copies of a card to the Fenwick tree.
+   *
+   * @param code   of the card
+   * @param copies to add, negative to remove
+   */
+  private void insert(final int code, final int copies) {
+    counts[code] += copies;
+    remaining += copies;
+    for (int i = code + 1; i < tree.length; i += i & -i) {
+      tree[i] += copies;
+    }
+  }
+
+  /**
+   * Returns the code of the card at the given position, were every card in the machine laid out in
+   * order of code. This is a binary descent of the Fenwick tree.
+   *
+   * @param position between 0 and the number of cards remaining
+   * @return the code of the card at that position
+   */
+  private int find(final int position) {
+    int index = 0;
+    int rest = position;
+    for (int bit = highestBit; bit > 0; bit >>= 1) {
+      int next = index + bit;
+      if (next < tree.length && tree[next] <= rest) {
+        index = next;
+        rest -= tree[next];
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Draws a card at random from the machine and returns its code.
+   *
+   * @return the code of a card, between 0 and 51
+   * @throws NoSuchElementException if every card is out of the machine
+   */
+  public final int dealCode() {
+    if (remaining == 0) {
+      throw new NoSuchElementException("The machine is empty. Therefore, a card cannot be dealt.");
+    }
+    int code = find(random.nextInt(remaining));
+    insert(code, -1);
+    return code;
+  }
+
+  /**
+   * Draws a card at random from the machine.
+   *
+   * @return a Card from the machine
+   * @throws NoSuchElementException if every card is out of the machine
+   */
+  public final Card deal() {
+    return Card.of(dealCode());
+  }
+
+  /**
+   * Returns a discarded card, by code, to a random position in the machine.
+   *
+   * @param code of the card, between 0 and 51
+   * @throws IllegalStateException if every copy of the card is already in the machine
+   */
+  public final void discard(final int code) {
+    if (counts[code] == size / CardTable.SIZE) {
+      throw new IllegalStateException(
+          String.format("Every copy of %s is already in the machine", Card.of(code)));
+    }
+    insert(code, 1);
+  }
+
+  /**
+   * Returns a discarded card to a random position in the machine.
+   *
+   * @param card to return
+   * @throws IllegalStateException if every copy of the card is already in the machine
+   */
+  public final void discard(final Card card) {
+    discard(card.getCode());
+  }
+
+  /**
+   * Returns every discarded card to the machine. Should be called at the end of each round.
+   *
+   * @param cards to return
+   * @throws IllegalStateException if every copy of a card is already in the machine
+   */
+  public final void discardAll(final Collection<? extends Card> cards) {
+    for (Card card : cards) {
+      discard(card.getCode());
+    }
+  }
+
+  /**
+   * Returns the number of cards currently in the machine.
+   *
+   * @return the count of cards which may be dealt
+   */
+  public final int remaining() {
+    return remaining;
+  }
+
+  /**
+   * Returns the number of copies of a card currently in the machine.
+   *
+   * @param card to count
+   * @return the count of that card in the machine
+   */
+  public final int count(final Card card) {
+    return counts[card.getCode()];
+  }
+}
@@ -0,0 +1,127 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import java.util.Objects;
+
+/**
+ * CountTracker keeps the running count of a {@link CountingSystem} as cards are dealt, and the
+ * true count derived from it.
+ *
+ * <p>Counting a card adds its tag and takes one from the number of cards remaining, both constant
+ * time operations. The true count divides the running count by the number of decks remaining,
+ * estimated from the cards remaining. Reading either count is a couple of field reads and creates
+ * no objects.
+ *
+ * <p>A {@link Shoe} counts each card it deals with every tracker it publishes. A headless engine
+ * may also create a CountTracker and count the cards itself.
+ *
+ * @see CountingSystem
+ * @see Shoe#getCountTracker()
+ */
+public final class CountTracker {
+
+  private static final int CARDS_PER_DECK = Rank.values().length * Suit.values().length;
+
+  private final CountingSystem system;
+  private final int numberOfDecks;
+  private final int initialCount;
+  private final int size;
+  private int runningCount;
+  private int remaining;
+
+  /**
+   * Creates a tracker for a freshly shuffled shoe of the given number of decks.
+   *
+   * @param system        of tags to count with
+   * @param numberOfDecks in the shoe
+   * @throws NullPointerException if system is null
+   */
+  public CountTracker(final CountingSystem system, final int numberOfDecks) {
+    this(system, numberOfDecks, numberOfDecks * CARDS_PER_DECK);
+  }
+
+  /**
+   * Creates a tracker for a shoe of the given number of decks which holds the given number of
+   * cards.
+   *
+   * @param system        of tags to count with
+   * @param numberOfDecks in the shoe
+   * @param size          the number of cards in the shoe
+   */
+  CountTracker(final CountingSystem system, final int numberOfDecks, final int size) {
+    this.system = Objects.requireNonNull(system, "The counting system cannot be null");
+    this.numberOfDecks = numberOfDecks;
+    this.initialCount = system.initialCount(numberOfDecks);
+    this.size = size;
+    reset();
+  }
+
+  /**
+   * Counts a dealt card of the given value.
+   *
+   * @param value of the card, between 2 and 11
+   */
+  public void count(final int value) {
+    runningCount += system.tag(value);
+    remaining--;
+  }
+
+  /**
+   * Returns the count to that of a freshly shuffled shoe.
+   */
+  public void reset() {
+    runningCount = initialCount;
+    remaining = size;
+  }
+
+  /**
+   * Returns the running count, the sum of the tags of every card counted since the last shuffle.
+   *
+   * @return the running count
+   */
+  public int getRunningCount() {
+    return runningCount;
+  }
+
+  /**
+   * Returns the running count per deck remaining. The number of decks remaining is estimated from
+   * the cards remaining, and is never taken to be less than half a deck.
+   *
+   * @return the true count
+   */
+  public double getTrueCount() {
+    return runningCount / getDecksRemaining();
+  }
+
+  /**
+   * Returns the number of decks which remain, never less than half a deck.
+   *
+   * @return the decks remaining
+   */
+  public double getDecksRemaining() {
+    return Math.max(0.5, (double) remaining / CARDS_PER_DECK);
+  }
+
+  /**
+   * Returns the number of decks in the shoe being counted.
+   *
+   * @return the number of decks
+   */
+  public int getNumberOfDecks() {
+    return numberOfDecks;
+  }
+
+  /**
+   * Returns the counting system of this tracker.
+   *
+   * @return the counting system
+   */
+  public CountingSystem getSystem() {
+    return system;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s running=%d true=%.2f", system.getName(), runningCount,
+        getTrueCount());
+  }
+}
@@ -0,0 +1,113 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * CountingSystem assigns a tag to each card value, which a {@link CountTracker} adds to its running
+ * count as each card is dealt.
+ *
+ * <p>Tags are kept by blackjack value, 2 through 11, as every card worth ten points shares a tag in
+ * each of the common systems. {@link #HI_LO}, {@link #KO} and {@link #OMEGA_II} are provided, and
+ * other systems may be created from their tags.
+ *
+ * <p>A balanced system, whose tags sum to zero over a deck, starts its running count at zero. An
+ * unbalanced system such as KO starts it at minus the sum of a deck's tags for each deck beyond
+ * the first, so the count reaches its pivot as the cards run out.
+ *
+ * @see CountTracker
+ */
+public final class CountingSystem {
+
+  /**
+   * The Hi-Lo system. Two through Six count +1, Seven through Nine count 0, tens and Aces count -1.
+   */
+  public static final CountingSystem HI_LO =
+      new CountingSystem("Hi-Lo", 1, 1, 1, 1, 1, 0, 0, 0, -1, -1);
+
+  /**
+   * The Knock-Out system. Two through Seven count +1, Eight and Nine count 0, tens and Aces count
+   * -1. KO is unbalanced.
+   */
+  public static final CountingSystem KO =
+      new CountingSystem("KO", 1, 1, 1, 1, 1, 1, 0, 0, -1, -1);
+
+  /**
+   * The Omega II system. Two, Three and Seven count +1, Four through Six count +2, Eight counts 0,
+   * Nine counts -1, tens count -2 and Aces count 0.
+   */
+  public static final CountingSystem OMEGA_II =
+      new CountingSystem("Omega II", 1, 1, 2, 2, 2, 1, 0, -1, -2, 0);
+
+  private final String name;
+  private final byte[] tags;
+  private final int deckSum;
+
+  /**
+   * Creates a counting system from the tag of each card value, Two first and Ace last.
+   *
+   * @param name of the system
+   * @param tags ten tags, for the values 2 through 11
+   * @throws IllegalArgumentException if there are not exactly ten tags
+   */
+  public CountingSystem(final String name, final int... tags) {
+    this.name = Objects.requireNonNull(name, "The name cannot be null");
+    if (tags.length != ShoeComposition.SLOTS) {
+      throw new IllegalArgumentException(String.format("Expected %d tags, but was given %d",
+          ShoeComposition.SLOTS, tags.length));
+    }
+    this.tags = new byte[ShoeComposition.MAX_VALUE + 1];
+    int sum = 0;
+    for (Rank rank : Rank.values()) {
+      sum += tags[rank.getValue() - ShoeComposition.MIN_VALUE] * Suit.values().length;
+    }
+    for (int i = 0; i < tags.length; i++) {
+      this.tags[i + ShoeComposition.MIN_VALUE] = (byte) tags[i];
+    }
+    this.deckSum = sum;
+  }
+
+  /**
+   * Returns the tag of a card of the given value.
+   *
+   * @param value of the card, between 2 and 11
+   * @return the tag
+   */
+  public int tag(final int value) {
+    return tags[value];
+  }
+
+  /**
+   * Returns {@code true} if the tags of a full deck sum to zero.
+   *
+   * @return {@code true} if the system is balanced
+   */
+  public boolean isBalanced() {
+    return deckSum == 0;
+  }
+
+  /**
+   * Returns the running count of a freshly shuffled shoe of the given number of decks.
+   *
+   * @param numberOfDecks in the shoe
+   * @return the initial running count
+   */
+  public int initialCount(final int numberOfDecks) {
+    return -deckSum * (numberOfDecks - 1);
+  }
+
+  /**
+   * Returns the name of the system.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name + " " + Arrays.toString(Arrays.copyOfRange(tags, ShoeComposition.MIN_VALUE,
+        tags.length));
+  }
+}
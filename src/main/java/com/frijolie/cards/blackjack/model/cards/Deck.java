@@ -1,7 +1,5 @@
 package com.frijolie.cards.blackjack.model.cards;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -10,6 +8,10 @@ import java.util.List;
  * <p>A {@code Deck} should contain all permutations of {@link Rank} and {@link Suit}. A single deck
  * should contain 52 cards.
  *
+ * <p>The cards are not created by the Deck. It references the canonical cards held by {@link
+ * CardTable}, so no matter how many decks are populated there will only be one instance of each
+ * card.
+ *
  * <p>Populating more than one deck is not necessary in this implementation. It is possible to
  * simply call {@link #getCards()} multiple times as it will pass a copy of the original deck.
  *
@@ -22,29 +24,28 @@ class Deck {
   private final List<Card> deck;
 
   /**
-   * No-arg constructor. Creates a collection and populates the deck.
+   * No-arg constructor. Populates the deck with all permutations of Rank and Suit, 52 cards total.
    */
   public Deck() {
-    deck = new ArrayList<>();
-    populateDeck();
+    deck = List.of(CardTable.cards());
   }
 
   /**
-   * Populates the deck will all permutations of Rank and Suit. Loads the deck with 52 cards total.
+   * Returns the number of cards in a single deck.
+   *
+   * @return the count of cards in the deck
    */
-  private void populateDeck() {
-    Arrays.stream(Suit.values())
-        .forEach(suit -> Arrays.stream(Rank.values())
-            .map(rank -> new BlackjackCard(rank, suit))
-            .forEach(deck::add));
+  final int size() {
+    return deck.size();
   }
 
   /**
-   * Returns a copy of the deck which contains 52 cards.
+   * Returns the deck which contains 52 cards. The list is immutable, therefore it may be shared
+   * without being copied.
    *
-   * @return a copy of the full deck
+   * @return the full deck
    */
   public final List<Card> getCards() {
-    return List.copyOf(deck);
+    return deck;
   }
 }
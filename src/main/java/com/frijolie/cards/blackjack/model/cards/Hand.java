@@ -1,9 +1,8 @@
 package com.frijolie.cards.blackjack.model.cards;
 
+import java.util.List;
 import java.util.Objects;
 
-import javafx.collections.ObservableList;
-
 /**
  * Hand is an interface to ensure behavior of all hands in the game.
  *
@@ -20,6 +19,13 @@ public interface Hand extends Comparable<Hand> {
    */
   void addCard(Card card);
 
+  /**
+   * Removes every card from the Hand and returns each state to its default, so the Hand may be
+   * reused for another round. For example, the HandResult becomes TBD and the HandState becomes
+   * ACTIVE.
+   */
+  void reset();
+
   /**
    * Returns the sum of all card values in the Hand.
    *
@@ -27,6 +33,37 @@ public interface Hand extends Comparable<Hand> {
    */
   int getScore();
 
+  /**
+   * Returns the id of the state the Hand is in. The id may be used to advance the hand, or to index
+   * a strategy table, without looking at its cards.
+   *
+   * @return a state id from the {@link HandStateTable}
+   */
+  int getStateId();
+
+  /**
+   * Returns the total of the Hand with every Ace counted as one point.
+   *
+   * @return the hard total of the hand.
+   */
+  int getHardTotal();
+
+  /**
+   * Returns the total of the Hand with one Ace counted as 11 points. If the hand does not contain
+   * an Ace, this is the same as {@link #getHardTotal()}. The soft total may exceed 21.
+   *
+   * @return the soft total of the hand.
+   */
+  int getSoftTotal();
+
+  /**
+   * Returns {@code true} if an Ace in the Hand is being counted as 11 points without the hand
+   * exceeding 21. For example, Ace and Six is a soft 17, as is Ace, Ace and Five.
+   *
+   * @return {@code true} if the score of the hand is a soft total, otherwise {@code false}
+   */
+  boolean isSoftTotal();
+
   /**
    * Returns {@code true} if the total score exceeds 21.
    *
@@ -35,8 +72,8 @@ public interface Hand extends Comparable<Hand> {
   boolean isBust();
 
   /**
-   * Returns {@code true} if the hand contains two cards, one of which is an Ace, and the hand value
-   * does not exceed 21.
+   * Returns {@code true} if the hand contains two cards, one of which is an Ace. Two cards can not
+   * exceed 21.
    *
    * @return {@code true} if the hand is soft, otherwise {@code false}.
    */
@@ -61,7 +98,7 @@ public interface Hand extends Comparable<Hand> {
    *
    * @return a collection of cards.
    */
-  ObservableList<Card> getCards();
+  List<Card> getCards();
 
   /**
    * Returns the result of the Hand at the end of the round. For example, WIN.
@@ -0,0 +1,257 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+
+/**
+ * HandStateTable encodes every state of a blackjack {@link Hand} which matters to the game as a
+ * small {@code int}, and precomputes how each state changes when a card is added.
+ *
+ * <p>The identity of the cards in a hand does not matter, only the total, whether an Ace is being
+ * counted as 11 points, and whether the hand is a pair. The states are:
+ *
+ * <ul>
+ *   <li>{@link #EMPTY}, a hand with no cards</li>
+ *   <li>a single card of value 2 through 11</li>
+ *   <li>a hard total of 4 through 21</li>
+ *   <li>a soft total of 12 through 21</li>
+ *   <li>a pair of cards of value 2 through 11</li>
+ *   <li>{@link #BLACKJACK} and {@link #BUST}</li>
+ * </ul>
+ *
+ * <p>Single card states are needed because a five alone and a two and a three both total five, but
+ * only the first becomes a pair when another five is added. Pairs are formed by value, therefore a
+ * King and a Queen are a pair of tens. Whether they may be split is still decided by the hand.
+ *
+ * <p>Advancing a hand is a single array lookup, {@link #next(int, int)}. Strategy tables may be
+ * indexed directly by state id, which is always between 0 and {@link #COUNT}.
+ *
+ * @see Hand#getStateId()
+ * @see Rank#getValue()
+ */
+public final class HandStateTable {
+
+  /**
+   * The state of a hand with no cards.
+   */
+  public static final int EMPTY = 0;
+
+  private static final int SINGLE_BASE = 1;
+  private static final int HARD_BASE = SINGLE_BASE + 10;
+  private static final int MIN_HARD = 4;
+  private static final int SOFT_BASE = HARD_BASE + GameRules.MAX_SCORE - MIN_HARD + 1;
+  private static final int MIN_SOFT = 12;
+  private static final int PAIR_BASE = SOFT_BASE + GameRules.MAX_SCORE - MIN_SOFT + 1;
+
+  /**
+   * The state of a hand with two cards worth 21 points.
+   */
+  public static final int BLACKJACK = PAIR_BASE + 10;
+
+  /**
+   * The state of a hand worth more than 21 points.
+   */
+  public static final int BUST = BLACKJACK + 1;
+
+  /**
+   * The number of states. Every state id is less than this.
+   */
+  public static final int COUNT = BUST + 1;
+
+  /**
+   * The width of a row of the transition table. Rows are indexed by card value, 2 through 11.
+   */
+  private static final int WIDTH = ShoeComposition.MAX_VALUE + 1;
+
+  private static final byte[] NEXT = new byte[COUNT * WIDTH];
+  private static final byte[] TOTAL = new byte[COUNT];
+  private static final boolean[] SOFT = new boolean[COUNT];
+  private static final boolean[] DEALER_HITS_SOFT_17 = new boolean[COUNT];
+  private static final boolean[] DEALER_STANDS_SOFT_17 = new boolean[COUNT];
+
+  static {
+    for (int value = ShoeComposition.MIN_VALUE; value <= ShoeComposition.MAX_VALUE; value++) {
+      TOTAL[single(value)] = (byte) value;
+      SOFT[single(value)] = value == Rank.ACE.getValue();
+      TOTAL[pair(value)] = (byte) (value == Rank.ACE.getValue() ? 12 : value * 2);
+      SOFT[pair(value)] = value == Rank.ACE.getValue();
+    }
+    for (int total = MIN_HARD; total <= GameRules.MAX_SCORE; total++) {
+      TOTAL[hard(total)] = (byte) total;
+    }
+    for (int total = MIN_SOFT; total <= GameRules.MAX_SCORE; total++) {
+      TOTAL[soft(total)] = (byte) total;
+      SOFT[soft(total)] = true;
+    }
+    TOTAL[BLACKJACK] = (byte) GameRules.MAX_SCORE;
+    SOFT[BLACKJACK] = true;
+    TOTAL[BUST] = (byte) (GameRules.MAX_SCORE + 1);
+
+    for (int state = 0; state < COUNT; state++) {
+      for (int value = ShoeComposition.MIN_VALUE; value <= ShoeComposition.MAX_VALUE; value++) {
+        NEXT[state * WIDTH + value] = (byte) transition(state, value);
+      }
+      int total = TOTAL[state];
+      boolean finished = state == BLACKJACK || state == BUST;
+      DEALER_STANDS_SOFT_17[state] = !finished && total < 17;
+      DEALER_HITS_SOFT_17[state] = DEALER_STANDS_SOFT_17[state] || (total == 17 && SOFT[state]);
+    }
+  }
+
+  private HandStateTable() {
+  }
+
+  /**
+   * Calculates the state reached by adding a card of the given value to a hand in the given state.
+   * Used only to fill the table.
+   *
+   * @param state the current state
+   * @param value of the card added
+   * @return the next state
+   */
+  private static int transition(final int state, final int value) {
+    if (state == BLACKJACK || state == BUST) {
+      return state;
+    }
+    boolean ace = value == Rank.ACE.getValue();
+    if (state == EMPTY) {
+      return single(value);
+    }
+    if (state < HARD_BASE) {
+      int first = TOTAL[state];
+      if (first == value) {
+        return pair(value);
+      }
+      if (first + value == GameRules.MAX_SCORE) {
+        return BLACKJACK;
+      }
+    }
+    int hardTotal = SOFT[state] ? TOTAL[state] - 10 : TOTAL[state];
+    hardTotal += ace ? 1 : value;
+    boolean hasAce = SOFT[state] || ace;
+    if (hardTotal > GameRules.MAX_SCORE) {
+      return BUST;
+    }
+    if (hasAce && hardTotal + 10 <= GameRules.MAX_SCORE) {
+      return soft(hardTotal + 10);
+    }
+    return hard(hardTotal);
+  }
+
+  /**
+   * Returns the state reached by adding a card of the given value to a hand in the given state.
+   * Nothing is calculated, the state is read from a precomputed table.
+   *
+   * @param state the current state
+   * @param value of the card added, between 2 and 11
+   * @return the next state
+   */
+  public static int next(final int state, final int value) {
+    return NEXT[state * WIDTH + value];
+  }
+
+  /**
+   * Returns the state of a hand holding the given cards.
+   *
+   * @param hand whose cards are used
+   * @return the state of the hand
+   */
+  public static int stateOf(final Hand hand) {
+    int state = EMPTY;
+    for (Card card : hand.getCards()) {
+      state = next(state, card.getValue());
+    }
+    return state;
+  }
+
+  /**
+   * Returns the state of a single card of the given value.
+   *
+   * @param value of the card, between 2 and 11
+   * @return a state id
+   */
+  public static int single(final int value) {
+    return SINGLE_BASE + value - ShoeComposition.MIN_VALUE;
+  }
+
+  /**
+   * Returns the state of a hand with the given hard total.
+   *
+   * @param total between 4 and 21
+   * @return a state id
+   */
+  public static int hard(final int total) {
+    return HARD_BASE + total - MIN_HARD;
+  }
+
+  /**
+   * Returns the state of a hand with the given soft total.
+   *
+   * @param total between 12 and 21
+   * @return a state id
+   */
+  public static int soft(final int total) {
+    return SOFT_BASE + total - MIN_SOFT;
+  }
+
+  /**
+   * Returns the state of a pair of cards of the given value.
+   *
+   * @param value of each card, between 2 and 11
+   * @return a state id
+   */
+  public static int pair(final int value) {
+    return PAIR_BASE + value - ShoeComposition.MIN_VALUE;
+  }
+
+  /**
+   * Returns the score of a hand in the given state. A BUST hand scores 22.
+   *
+   * @param state a state id
+   * @return the score
+   */
+  public static int total(final int state) {
+    return TOTAL[state];
+  }
+
+  /**
+   * Returns {@code true} if an Ace is being counted as 11 points in the given state.
+   *
+   * @param state a state id
+   * @return {@code true} if the total is soft
+   */
+  public static boolean isSoft(final int state) {
+    return SOFT[state];
+  }
+
+  /**
+   * Returns {@code true} if the given state is a pair.
+   *
+   * @param state a state id
+   * @return {@code true} if the state is a pair
+   */
+  public static boolean isPair(final int state) {
+    return state >= PAIR_BASE && state < BLACKJACK;
+  }
+
+  /**
+   * Returns the value of each card in a pair.
+   *
+   * @param state a pair state id
+   * @return the value of the paired cards, between 2 and 11
+   */
+  public static int pairValue(final int state) {
+    return state - PAIR_BASE + ShoeComposition.MIN_VALUE;
+  }
+
+  /**
+   * Returns {@code true} if the dealer must draw another card in the given state. The dealer draws
+   * below 17, and on a soft 17 if the dealer hits soft 17.
+   *
+   * @param state a state id
+   * @param hitsSoft17 {@code true} if the dealer hits a soft 17
+   * @return {@code true} if the dealer must hit
+   */
+  public static boolean dealerMustHit(final int state, final boolean hitsSoft17) {
+    return hitsSoft17 ? DEALER_HITS_SOFT_17[state] : DEALER_STANDS_SOFT_17[state];
+  }
+}
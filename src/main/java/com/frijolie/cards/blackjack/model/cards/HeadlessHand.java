@@ -0,0 +1,263 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * HeadlessHand is a concrete {@link Hand} which does not depend on JavaFX. It is intended for
+ * headless engines, servers and simulations, where nothing observes the hand.
+ *
+ * <p>The cards are held in an array and every state of the hand is a primitive field. The hard
+ * total, counting every Ace as one point, and the number of Aces are kept as each card is added.
+ * Every other state is derived from them, therefore adding a card is a constant time operation. No
+ * listeners are notified. The id of the hand in the {@link HandStateTable} is advanced with each
+ * card as well.
+ *
+ * <p>The rules of the hand are held in a {@link RuleSet}. A hand created without one takes a
+ * snapshot of {@link GameRules}.
+ *
+ * <p>{@link BlackjackHand} wraps a HeadlessHand and publishes its states as JavaFX properties for
+ * the user interface.
+ *
+ * @see Hand
+ * @see BlackjackHand
+ */
+public class HeadlessHand implements Hand, HandPermissions {
+
+  /**
+   * The most cards a hand can hold before it is BUST, plus the card which busts it.
+   */
+  private static final int INITIAL_CAPACITY = 22;
+
+  private Card[] cards;
+  private int size;
+  private int hardTotal;
+  private int aces;
+  private int stateId;
+  private int score;
+  private boolean canSplit;
+  private boolean canDouble;
+  private boolean canHit;
+  private boolean isBust;
+  private boolean isSoft;
+  private boolean hasBlackjack;
+  private HandResult handResult;
+  private HandState handState;
+  private final RuleSet rules;
+
+  /**
+   * No-arg constructor. Sets variable defaults. The rules are a snapshot of {@link GameRules}
+   * taken when the hand is created.
+   *
+   * @see RuleSet#fromGameRules()
+   */
+  public HeadlessHand() {
+    this(RuleSet.fromGameRules());
+  }
+
+  /**
+   * Overloaded constructor. Sets variable defaults. The rules are read from the given {@link
+   * RuleSet}.
+   *
+   * @param rules of the table the hand is played at
+   * @throws NullPointerException if rules is null
+   */
+  public HeadlessHand(final RuleSet rules) {
+    cards = new Card[INITIAL_CAPACITY];
+    handResult = HandResult.TBD;
+    handState = HandState.ACTIVE;
+    this.rules = Objects.requireNonNull(rules, "You must pass a non-null RuleSet");
+  }
+
+  @Override
+  public final void addCard(Card card) {
+    Objects.requireNonNull(card, "The card could not be added to the hand. It is null.");
+    if (size == cards.length) {
+      cards = Arrays.copyOf(cards, size * 2);
+    }
+    cards[size++] = card;
+    if (card.getRank() == Rank.ACE) {
+      hardTotal += 1;
+      aces++;
+    } else {
+      hardTotal += card.getValue();
+    }
+    stateId = HandStateTable.next(stateId, card.getValue());
+    update();
+  }
+
+  @Override
+  public final void reset() {
+    size = 0;
+    hardTotal = 0;
+    aces = 0;
+    stateId = HandStateTable.EMPTY;
+    score = 0;
+    canSplit = false;
+    canDouble = false;
+    canHit = false;
+    isBust = false;
+    isSoft = false;
+    hasBlackjack = false;
+    handResult = HandResult.TBD;
+    handState = HandState.ACTIVE;
+  }
+
+  /**
+   * Recalculates every state of the hand. Called each time a card has been added.
+   *
+   * <p>The hand becomes inactive once it is BUST or has blackjack.
+   */
+  private void update() {
+    score = isSoftTotal() ? getSoftTotal() : hardTotal;
+    canSplit = calculateCanSplit();
+    canDouble = rules.isDoubleDownAllowed() && hasTwoCards() && score > 8 && score < 12;
+    canHit = score < GameRules.MAX_SCORE;
+    hasBlackjack = hasTwoCards() && score == GameRules.MAX_SCORE;
+    isSoft = hasTwoCards() && aces > 0;
+    isBust = score > GameRules.MAX_SCORE;
+    if (isBust || hasBlackjack) {
+      setHandState(HandState.INACTIVE);
+    }
+  }
+
+  /**
+   * Calculates whether the hand may be split. A hand may be split if the hand has exactly two
+   * cards and they are of the same {@link Rank}, or the same value if splitting on value is
+   * allowed.
+   *
+   * @return {@code true} if the hand may be split
+   */
+  private boolean calculateCanSplit() {
+    if (!rules.isSplitsAllowed() || !hasTwoCards()) {
+      return false;
+    }
+    if (rules.isSplitOnValue()) {
+      return cards[0].sameValue(cards[1]);
+    }
+    return cards[0].sameRank(cards[1]);
+  }
+
+  /**
+   * Returns the count of Aces in the Hand.
+   *
+   * @return a count of all Aces currently in the Hand.
+   */
+  final int numberOfAces() {
+    return aces;
+  }
+
+  @Override
+  public final int getScore() {
+    return score;
+  }
+
+  @Override
+  public final int getStateId() {
+    return stateId;
+  }
+
+  @Override
+  public final int getHardTotal() {
+    return hardTotal;
+  }
+
+  @Override
+  public final int getSoftTotal() {
+    return aces > 0 ? hardTotal + 10 : hardTotal;
+  }
+
+  @Override
+  public final boolean isSoftTotal() {
+    return aces > 0 && hardTotal + 10 <= GameRules.MAX_SCORE;
+  }
+
+  @Override
+  public final boolean isBust() {
+    return isBust;
+  }
+
+  @Override
+  public final boolean isSoft() {
+    return isSoft;
+  }
+
+  @Override
+  public final boolean hasBlackjack() {
+    return hasBlackjack;
+  }
+
+  @Override
+  public final boolean hasTwoCards() {
+    return size == 2;
+  }
+
+  /**
+   * Returns a read-only view of the cards in the hand, in the order they were added.
+   *
+   * @return the cards in the hand
+   */
+  @Override
+  public final List<Card> getCards() {
+    return Collections.unmodifiableList(Arrays.asList(cards).subList(0, size));
+  }
+
+  @Override
+  public final HandResult getHandResult() {
+    return handResult;
+  }
+
+  @Override
+  public final void setHandResult(HandResult result) {
+    handResult = result;
+  }
+
+  @Override
+  public final HandState getHandState() {
+    return handState;
+  }
+
+  @Override
+  public final void setHandState(HandState state) {
+    handState = state;
+    if (state == HandState.INACTIVE) {
+      canHit = false;
+      canDouble = false;
+    }
+  }
+
+  @Override
+  public final boolean canSplit() {
+    return canSplit;
+  }
+
+  @Override
+  public final boolean canDouble() {
+    return canDouble;
+  }
+
+  @Override
+  public final boolean canHit() {
+    return canHit;
+  }
+
+  /**
+   * Returns a string representation of all cards in the hand, separated by a space.
+   *
+   * @return a String representation of all cards in the Hand.
+   */
+  @Override
+  public final String toString() {
+    StringJoiner joiner = new StringJoiner(" ");
+    for (int i = 0; i < size; i++) {
+      joiner.add(cards[i].toString());
+    }
+    return joiner.toString();
+  }
+}
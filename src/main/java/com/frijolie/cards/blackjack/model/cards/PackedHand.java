@@ -0,0 +1,179 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+
+import java.util.Arrays;
+
+/**
+ * PackedHand is a primitive representation of a {@link Hand}, intended for headless engines which
+ * score a great number of hands.
+ *
+ * <p>Each card is stored as its code, a {@code byte} between 0 and 51. The hard total, counting
+ * every Ace as one point, and whether the hand holds an Ace are kept as each card is added. The
+ * score is then derived from those two values without visiting the cards.
+ *
+ * @see Card#getCode()
+ * @see PackedShoe
+ * @see BlackjackHand
+ */
+public class PackedHand {
+
+  /**
+   * The most cards a hand can hold before it is BUST, plus the card which busts it.
+   */
+  private static final int INITIAL_CAPACITY = 22;
+
+  private byte[] cards;
+  private int size;
+  private int hardTotal;
+  private boolean hasAce;
+
+  /**
+   * No-arg constructor. Creates an empty hand.
+   */
+  public PackedHand() {
+    cards = new byte[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Returns a PackedHand holding the same cards as a {@link Hand}, in the same order.
+   *
+   * @param source the Hand to convert
+   * @return a new PackedHand
+   */
+  public static PackedHand of(final Hand source) {
+    PackedHand packed = new PackedHand();
+    for (Card card : source.getCards()) {
+      packed.addCard(card.getCode());
+    }
+    return packed;
+  }
+
+  /**
+   * Adds the card with the given code to the hand.
+   *
+   * @param code of the card, between 0 and 51
+   */
+  public final void addCard(final int code) {
+    if (size == cards.length) {
+      cards = Arrays.copyOf(cards, size * 2);
+    }
+    cards[size++] = (byte) code;
+    int value = CardTable.value(code);
+    if (value == Rank.ACE.getValue()) {
+      hasAce = true;
+      hardTotal += 1;
+    } else {
+      hardTotal += value;
+    }
+  }
+
+  /**
+   * Removes every card from the hand.
+   */
+  public final void clear() {
+    size = 0;
+    hardTotal = 0;
+    hasAce = false;
+  }
+
+  /**
+   * Returns the highest score of the hand which does not exceed 21, if there is one. An Ace is
+   * counted as 11 points when doing so would not BUST the hand.
+   *
+   * @return the point total of the hand
+   */
+  public final int getScore() {
+    return isSoft() ? hardTotal + 10 : hardTotal;
+  }
+
+  /**
+   * Returns the total of the hand with every Ace counted as one point.
+   *
+   * @return the hard total of the hand
+   */
+  public final int getHardTotal() {
+    return hardTotal;
+  }
+
+  /**
+   * Returns {@code true} if an Ace in the hand is being counted as 11 points.
+   *
+   * @return {@code true} if the total is soft
+   */
+  public final boolean isSoft() {
+    return hasAce && hardTotal + 10 <= GameRules.MAX_SCORE;
+  }
+
+  /**
+   * Returns {@code true} if the score exceeds 21.
+   *
+   * @return {@code true} if the hand is BUST
+   */
+  public final boolean isBust() {
+    return hardTotal > GameRules.MAX_SCORE;
+  }
+
+  /**
+   * Returns {@code true} if the hand holds exactly two cards with a score of 21.
+   *
+   * @return {@code true} if the hand has blackjack
+   */
+  public final boolean hasBlackjack() {
+    return size == 2 && getScore() == GameRules.MAX_SCORE;
+  }
+
+  /**
+   * Returns the number of cards in the hand.
+   *
+   * @return the count of cards
+   */
+  public final int size() {
+    return size;
+  }
+
+  /**
+   * Returns the code of the card at the given position in the hand.
+   *
+   * @param index of the card, starting at zero
+   * @return the code of the card
+   * @throws IndexOutOfBoundsException if there is no card at the index
+   */
+  public final int getCard(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          String.format("The hand has %d cards. There is no card at index %d", size, index));
+    }
+    return cards[index];
+  }
+
+  /**
+   * Returns a {@link BlackjackHand} holding the same cards, in the same order.
+   *
+   * @return a new BlackjackHand
+   */
+  public final BlackjackHand toHand() {
+    BlackjackHand hand = new BlackjackHand();
+    for (int i = 0; i < size; i++) {
+      hand.addCard(Card.of(cards[i]));
+    }
+    return hand;
+  }
+
+  /**
+   * Returns a string representation of all cards in the hand, separated by a space.
+   *
+   * @return a String representation of all cards in the hand
+   */
+  @Override
+  public final String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        builder.append(' ');
+      }
+      builder.append(Card.of(cards[i]));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,205 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * PackedShoe is a primitive representation of a {@link Shoe}, intended for headless engines which
+ * deal a great number of cards.
+ *
+ * <p>Each card is stored as its code, a {@code byte} between 0 and 51, rather than as a reference
+ * to a {@link Card}. Dealing returns the code of the card and advances a cursor, therefore no
+ * objects are touched while dealing.
+ *
+ * <p>As with a {@code Shoe}, each PackedShoe owns a {@link SplittableRandom}. Giving every worker
+ * thread its own shoe and generator lets them shuffle without contention, and a seed makes the
+ * order of the cards reproducible.
+ *
+ * <p>A PackedShoe may be converted to and from a {@code Shoe}. Only the undealt cards are carried
+ * across.
+ *
+ * @see Card#getCode()
+ * @see PackedHand
+ * @see Shoe
+ */
+public class PackedShoe {
+
+  private final byte[] shoe;
+  private final SplittableRandom random;
+  private int cursor;
+
+  /**
+   * Default no-arg constructor. Will populate the PackedShoe with the {@link
+   * GameRules#DEFAULT_NUMBER_OF_DECKS} and shuffle it.
+   */
+  public PackedShoe() {
+    this(GameRules.DEFAULT_NUMBER_OF_DECKS);
+  }
+
+  /**
+   * Overloaded constructor. Populates the PackedShoe with a customizable number of decks. As with a
+   * {@link Shoe}, the number is kept between {@link GameRules#MIN_NUMBER_OF_DECKS} and {@link
+   * GameRules#MAX_NUMBER_OF_DECKS}. After it has been populated, it is shuffled.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   */
+  public PackedShoe(final int numberOfDecks) {
+    this(numberOfDecks, new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Populates the PackedShoe with a customizable number of decks, then
+   * shuffles it with a generator created from the given seed.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   * @param seed          used to create the generator which shuffles the shoe
+   */
+  public PackedShoe(final int numberOfDecks, final long seed) {
+    this(numberOfDecks, new SplittableRandom(seed));
+  }
+
+  /**
+   * Overloaded constructor. Populates the PackedShoe with a customizable number of decks, then
+   * shuffles it with the given generator. The generator must not be shared with another thread.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   * @param random        the generator used to shuffle the shoe
+   * @throws NullPointerException if random is null
+   */
+  public PackedShoe(final int numberOfDecks, final SplittableRandom random) {
+    this.random = Objects.requireNonNull(random, "You must pass a non-null generator");
+    int decks = Math.max(GameRules.MIN_NUMBER_OF_DECKS,
+        Math.min(GameRules.MAX_NUMBER_OF_DECKS, numberOfDecks));
+    shoe = new byte[decks * CardTable.SIZE];
+    for (int i = 0; i < shoe.length; i++) {
+      shoe[i] = (byte) (i % CardTable.SIZE);
+    }
+    shuffle();
+  }
+
+  /**
+   * Creates a PackedShoe holding exactly the given codes, in the given order.
+   *
+   * @param codes the card codes to hold
+   */
+  private PackedShoe(final byte[] codes) {
+    random = new SplittableRandom();
+    shoe = codes;
+    cursor = 0;
+  }
+
+  /**
+   * Returns a PackedShoe holding the undealt cards of a {@link Shoe}, in the order they would be
+   * dealt.
+   *
+   * @param source the Shoe to convert
+   * @return a new PackedShoe
+   */
+  public static PackedShoe of(final Shoe source) {
+    List<Card> cards = source.getCards();
+    byte[] codes = new byte[cards.size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = (byte) cards.get(i).getCode();
+    }
+    return new PackedShoe(codes);
+  }
+
+  /**
+   * Shuffles every card in the shoe, including those already dealt, and resets the cursor. The
+   * cards are shuffled in place using the Fisher-Yates algorithm.
+   */
+  public final void shuffle() {
+    for (int i = shoe.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      byte swap = shoe[i];
+      shoe[i] = shoe[j];
+      shoe[j] = swap;
+    }
+    cursor = 0;
+  }
+
+  /**
+   * Shuffles the discards back into the shoe while the last cards dealt remain in play, as a dealer
+   * does when the shoe runs dry during a round. The cards in play are moved behind the cursor, so
+   * they are not dealt again until the next call to {@link #shuffle()}. The undealt cards, if any,
+   * are shuffled along with the discards.
+   *
+   * @param inPlay the number of cards most recently dealt which are still on the table
+   * @throws IllegalArgumentException if inPlay is negative or more than the cards dealt
+   */
+  public final void reshuffleDiscards(final int inPlay) {
+    if (inPlay < 0 || inPlay > cursor) {
+      throw new IllegalArgumentException("Only cards which have been dealt can be in play");
+    }
+    final int firstInPlay = cursor - inPlay;
+    final byte[] held = new byte[inPlay];
+    System.arraycopy(shoe, firstInPlay, held, 0, inPlay);
+    System.arraycopy(shoe, 0, shoe, inPlay, firstInPlay);
+    System.arraycopy(held, 0, shoe, 0, inPlay);
+    for (int i = shoe.length - 1; i > inPlay; i--) {
+      int j = inPlay + random.nextInt(i - inPlay + 1);
+      byte swap = shoe[i];
+      shoe[i] = shoe[j];
+      shoe[j] = swap;
+    }
+    cursor = inPlay;
+  }
+
+  /**
+   * Returns the code of the next card in the shoe and advances the cursor.
+   *
+   * @return the code of a card, between 0 and 51
+   * @throws NoSuchElementException if the shoe is empty
+   */
+  public final int deal() {
+    if (cursor == shoe.length) {
+      throw new NoSuchElementException("The shoe is empty. Therefore, a card cannot be dealt.");
+    }
+    return shoe[cursor++];
+  }
+
+  /**
+   * Returns the number of cards which have not yet been dealt.
+   *
+   * @return the count of undealt cards
+   */
+  public final int remaining() {
+    return shoe.length - cursor;
+  }
+
+  /**
+   * Returns the total number of cards in the shoe, dealt or not.
+   *
+   * @return the capacity of the shoe
+   */
+  public final int size() {
+    return shoe.length;
+  }
+
+  /**
+   * Returns a {@link Shoe} holding the undealt cards, in the order they would be dealt.
+   *
+   * @return a new Shoe
+   */
+  public final Shoe toShoe() {
+    return new Shoe(toCards().toArray(new Card[0]));
+  }
+
+  /**
+   * Returns the undealt cards as a list of canonical {@link Card}s.
+   *
+   * @return a new list of the undealt cards
+   */
+  public final List<Card> toCards() {
+    List<Card> cards = new ArrayList<>(remaining());
+    for (int i = cursor; i < shoe.length; i++) {
+      cards.add(Card.of(shoe[i]));
+    }
+    return cards;
+  }
+}
@@ -1,11 +1,14 @@
 package com.frijolie.cards.blackjack.model.cards;
 
 import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Shoe is a concrete class which represents the Shoe in a game of Blackjack.
@@ -14,9 +17,33 @@ import java.util.NoSuchElementException;
  * GameRules#MIN_NUMBER_OF_DECKS} and not exceed the {@link GameRules#MAX_NUMBER_OF_DECKS}. After
  * all cards are populated in a deck, they are shuffled and placed in the Shoe.
  *
- * <p>The Dealer must deal all cards from the Shoe in First-In-First-Out (FIFO) order. After a
- * certain percentage of cards have been exhausted from the shoe it is repopulated and shuffled
- * again, stopping play to do so.
+ * <p>The Dealer must deal all cards from the Shoe in First-In-First-Out (FIFO) order. A cut card
+ * is placed in the Shoe according to its penetration, the fraction of the cards which will be
+ * dealt. Reaching the cut card marks the Shoe for replacement, and it is replaced with a freshly
+ * shuffled one when the round ends, see {@link #endRound()}. The cards on the table therefore
+ * always come from the Shoe being counted. Should every card be dealt before the round ends, the
+ * discards are shuffled back into the Shoe in the middle of the round, while the cards of the
+ * round stay on the table, out of the Shoe and counted.
+ *
+ * <p>The cards are held in a fixed size array. Rather than removing a card each time one is dealt,
+ * a cursor is advanced to the next undealt card. This keeps dealing a constant time operation
+ * regardless of the number of decks in the Shoe.
+ *
+ * <p>A second array of the same cards is kept on standby. It is shuffled by a background task
+ * while the first is being dealt, and the two arrays are swapped when the Shoe is replaced.
+ * Play never stops for a shuffle, and no shuffling is done on the thread which deals.
+ *
+ * <p>The Shoe keeps a {@link ShoeComposition}, the number of cards of each value which have not
+ * been dealt. It is updated as each card is dealt, so it may be read at any time without scanning
+ * the cards.
+ *
+ * <p>The Shoe also publishes {@link CountTracker}s, which count each card as it is dealt. A Hi-Lo
+ * tracker is always present, and trackers for other {@link CountingSystem}s may be added. The
+ * counts are reset when the Shoe is replaced.
+ *
+ * <p>Each Shoe owns its source of randomness. A Shoe may be given a seed, or a {@link
+ * SplittableRandom}, so that the order of the cards can be reproduced. Separate threads should give
+ * each Shoe its own generator, for example by calling {@link SplittableRandom#split()}.
  *
  * @see Deck
  * @see BlackjackCard
@@ -25,8 +52,17 @@ import java.util.NoSuchElementException;
  */
 public class Shoe {
 
-  private final List<Card> shoe;
   private final Deck deck;
+  private final SplittableRandom standbyRandom;
+  private final int cutCard;
+  private final ShoeComposition composition;
+  private Card[] shoe;
+  private Card[] standby;
+  private CompletableFuture<Void> standbyShuffled;
+  private int cursor;
+  private int roundStart;
+  private boolean cutCardReached;
+  private CountTracker[] trackers;
 
   /**
    * Default no-arg constructor. Will populate the Shoe with the {@link
@@ -49,62 +85,350 @@ public class Shoe {
    * @see GameRules
    */
   public Shoe(final int numberOfDecks) {
-    shoe = new ArrayList<>();
+    this(numberOfDecks, new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Populates the Shoe with a customizable number of decks, then shuffles
+   * it with a generator created from the given seed. Two shoes created with the same number of
+   * decks and the same seed will deal the same cards in the same order.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   * @param seed          used to create the generator which shuffles the shoe
+   */
+  public Shoe(final int numberOfDecks, final long seed) {
+    this(numberOfDecks, new SplittableRandom(seed));
+  }
+
+  /**
+   * Overloaded constructor. Populates the Shoe with a customizable number of decks, then shuffles
+   * it with the given generator. The generator is owned by the Shoe from then on and must not be
+   * shared with another thread.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   * @param random        the generator used to shuffle the shoe
+   * @throws NullPointerException if random is null
+   */
+  public Shoe(final int numberOfDecks, final SplittableRandom random) {
+    this(numberOfDecks, GameRules.DEFAULT_PENETRATION, random);
+  }
+
+  /**
+   * Overloaded constructor. Populates the Shoe with a customizable number of decks and places the
+   * cut card according to the penetration. For example, a penetration of 0.75 will deal three
+   * quarters of the cards before the Shoe is replaced.
+   *
+   * @param numberOfDecks the number of decks used to populate the shoe
+   * @param penetration   the fraction of the cards dealt before the cut card is reached
+   * @param random        the generator used to shuffle the shoe
+   * @throws IllegalArgumentException if penetration is not greater than 0 and at most 1
+   * @throws NullPointerException     if random is null
+   */
+  public Shoe(final int numberOfDecks, final double penetration, final SplittableRandom random) {
+    Objects.requireNonNull(random, "You must pass a non-null generator");
+    standbyRandom = random.split();
     deck = new Deck();
 
     if (numberOfDecks < GameRules.MIN_NUMBER_OF_DECKS) {
-      populate(GameRules.MIN_NUMBER_OF_DECKS);
+      shoe = new Card[GameRules.MIN_NUMBER_OF_DECKS * deck.size()];
     } else if (numberOfDecks > GameRules.MAX_NUMBER_OF_DECKS) {
-      populate(GameRules.MAX_NUMBER_OF_DECKS);
+      shoe = new Card[GameRules.MAX_NUMBER_OF_DECKS * deck.size()];
     } else {
-      populate(numberOfDecks);
+      shoe = new Card[numberOfDecks * deck.size()];
+    }
+    cutCard = cutCard(shoe.length, penetration);
+    composition = new ShoeComposition(shoe.length / deck.size());
+    trackers = new CountTracker[] {
+        new CountTracker(CountingSystem.HI_LO, shoe.length / deck.size())};
+
+    populate();
+    shuffle(shoe, random);
+    prepareStandby(shoe.clone());
+  }
+
+  /**
+   * Overloaded constructor. Populates the Shoe with the number of decks of the given {@link
+   * RuleSet} and places the cut card according to its penetration.
+   *
+   * @param rules of the table the shoe is used at
+   * @throws NullPointerException if rules is null
+   */
+  public Shoe(final RuleSet rules) {
+    this(rules, new SplittableRandom());
+  }
+
+  /**
+   * Overloaded constructor. Populates the Shoe with the number of decks of the given {@link
+   * RuleSet}, places the cut card according to its penetration, then shuffles it with the given
+   * generator.
+   *
+   * @param rules  of the table the shoe is used at
+   * @param random the generator used to shuffle the shoe
+   * @throws NullPointerException if rules or random is null
+   */
+  public Shoe(final RuleSet rules, final SplittableRandom random) {
+    this(Objects.requireNonNull(rules, "You must pass a non-null RuleSet").getNumberOfDecks(),
+        rules.getPenetration(), random);
+  }
+
+  /**
+   * Creates a Shoe holding exactly the given cards, in the given order. The cards are not
+   * shuffled. They will be dealt starting at index zero, and every card will be dealt before the
+   * Shoe is replaced.
+   *
+   * @param cards to place in the shoe
+   */
+  Shoe(final Card[] cards) {
+    standbyRandom = new SplittableRandom();
+    deck = new Deck();
+    shoe = cards.clone();
+    cutCard = shoe.length;
+    composition = new ShoeComposition(Arrays.asList(shoe));
+    trackers = new CountTracker[] {new CountTracker(CountingSystem.HI_LO,
+        Math.max(1, (shoe.length + deck.size() - 1) / deck.size()), shoe.length)};
+    cursor = 0;
+    prepareStandby(cards.clone());
+  }
+
+  /**
+   * Returns the position of the cut card in a shoe of the given size.
+   *
+   * @param size        of the shoe
+   * @param penetration the fraction of the cards dealt before the cut card is reached
+   * @return the number of cards dealt before the cut card is reached
+   */
+  private static int cutCard(final int size, final double penetration) {
+    if (!(penetration > 0 && penetration <= 1)) {
+      throw new IllegalArgumentException(
+          String.format("Penetration must be greater than 0 and at most 1. It was: %s",
+              penetration));
+    }
+    return Math.max(1, (int) (size * penetration));
+  }
+
+  /**
+   * Populates the shoe with as many decks as the backing array can hold.
+   */
+  private void populate() {
+    List<Card> cards = deck.getCards();
+    for (int i = 0; i < shoe.length; i++) {
+      shoe[i] = cards.get(i % cards.size());
     }
+    cursor = 0;
+  }
+
+  /**
+   * Shuffles the cards in place using the Fisher-Yates algorithm.
+   *
+   * @param cards  to shuffle
+   * @param random the generator used to shuffle
+   */
+  private static void shuffle(final Card[] cards, final SplittableRandom random) {
+    shuffle(cards, 0, random);
+  }
 
-    shuffle();
+  /**
+   * Shuffles the cards from the given index to the end in place, using the Fisher-Yates
+   * algorithm. The cards before the index are left where they are.
+   *
+   * @param cards  to shuffle
+   * @param from   index of the first card to shuffle
+   * @param random the generator used to shuffle
+   */
+  private static void shuffle(final Card[] cards, final int from, final SplittableRandom random) {
+    for (int i = cards.length - 1; i > from; i--) {
+      int j = from + random.nextInt(i - from + 1);
+      Card swap = cards[i];
+      cards[i] = cards[j];
+      cards[j] = swap;
+    }
   }
 
   /**
-   * Populates the shoe with the requested number of decks.
+   * Places the cards on standby and starts a background task to shuffle them. Only one task is
+   * running at a time, therefore the standby generator is never used by two threads at once.
    *
-   * @param numberOfDecks to populate the shoe.
+   * @param cards to shuffle and hold on standby
+   */
+  private void prepareStandby(final Card[] cards) {
+    standby = cards;
+    standbyShuffled = CompletableFuture.runAsync(() -> shuffle(cards, standbyRandom));
+  }
+
+  /**
+   * Replaces the cards being dealt with those on standby, then sends the old cards to be shuffled
+   * in the background. The standby cards were shuffled while the Shoe was being dealt, therefore
+   * waiting on them should not be necessary.
    */
-  private void populate(final int numberOfDecks) {
-    for (int i = 0; i < numberOfDecks; i++) {
-      shoe.addAll(deck.getCards());
+  private void replace() {
+    standbyShuffled.join();
+    cursor = 0;
+    roundStart = 0;
+    cutCardReached = false;
+    composition.reset();
+    for (CountTracker tracker : trackers) {
+      tracker.reset();
     }
+    Card[] dealt = shoe;
+    shoe = standby;
+    prepareStandby(dealt);
   }
 
   /**
-   * Shuffles the shoe.
+   * Shuffles the discards back into the shoe in the middle of a round. The cards dealt since the
+   * round began stay on the table: they are moved behind the cursor, so they are not dealt again,
+   * and the composition and counts are those of a shoe from which only they have been dealt. If
+   * every card of the shoe is on the table, the shoe is replaced instead.
+   *
+   * <p>The standby generator is used once its background shuffle has finished, therefore it is
+   * still never used by two threads at once.
    */
-  private void shuffle() {
-    Collections.shuffle(shoe);
+  private void reshuffleDiscards() {
+    final int inPlay = cursor - roundStart;
+    if (inPlay >= shoe.length) {
+      replace();
+      return;
+    }
+    standbyShuffled.join();
+    Card[] held = Arrays.copyOfRange(shoe, roundStart, cursor);
+    System.arraycopy(shoe, 0, shoe, inPlay, roundStart);
+    System.arraycopy(held, 0, shoe, 0, inPlay);
+    shuffle(shoe, inPlay, standbyRandom);
+    composition.reset();
+    for (CountTracker tracker : trackers) {
+      tracker.reset();
+    }
+    for (Card card : held) {
+      count(card.getValue());
+    }
+    cursor = inPlay;
+    roundStart = 0;
   }
 
   /**
-   * Removes and returns the first card at the bottom of the shoe. Will throw an exception if the
-   * {@code Shoe} is empty.
+   * Returns the next card in the shoe and advances the cursor. Dealing the card at the cut card
+   * marks the shoe for replacement at the end of the round. Only if every card has been dealt are
+   * the discards shuffled back in before the card is dealt, leaving the cards of the round on the
+   * table.
    *
    * <p>Needs to be called each time a card is dealt to a player.
    *
    * @return a Card from the shoe.
-   * @throws NoSuchElementException if the {@code Shoe} is empty
    */
   public final Card deal() {
-    String errorMessage = "The shoe is empty. Therefore, a card cannot be dealt.";
-    if (shoe.isEmpty()) {
-      throw new NoSuchElementException(errorMessage);
+    if (cursor >= shoe.length) {
+      reshuffleDiscards();
+    }
+    Card card = shoe[cursor++];
+    if (cursor >= cutCard) {
+      cutCardReached = true;
+    }
+    count(card.getValue());
+    return card;
+  }
+
+  /**
+   * Removes a card of the given value from the composition and counts it in every tracker.
+   */
+  private void count(final int value) {
+    composition.remove(value);
+    for (CountTracker tracker : trackers) {
+      tracker.count(value);
+    }
+  }
+
+  /**
+   * Returns the composition of the cards which have not been dealt. The same instance is updated
+   * as cards are dealt and when the shoe is replaced. It must not be modified, use {@link
+   * ShoeComposition#copy()} to obtain a composition which may be.
+   *
+   * @return the live composition of the shoe
+   */
+  public final ShoeComposition getComposition() {
+    return composition;
+  }
+
+  /**
+   * Returns the Hi-Lo tracker of the shoe. The same instance is updated as cards are dealt and
+   * reset when the shoe is replaced.
+   *
+   * @return the live Hi-Lo count of the shoe
+   */
+  public final CountTracker getCountTracker() {
+    return trackers[0];
+  }
+
+  /**
+   * Publishes a tracker for the given counting system. The cards already dealt from the current
+   * shoe are counted, then the tracker is updated as each further card is dealt, and reset when
+   * the shoe is replaced.
+   *
+   * @param system of tags to count with
+   * @return the live count of the shoe for the system
+   * @throws NullPointerException if system is null
+   */
+  public final CountTracker track(final CountingSystem system) {
+    CountTracker tracker = new CountTracker(system, trackers[0].getNumberOfDecks(), shoe.length);
+    for (int i = 0; i < cursor; i++) {
+      tracker.count(shoe[i].getValue());
+    }
+    CountTracker[] updated = Arrays.copyOf(trackers, trackers.length + 1);
+    updated[trackers.length] = tracker;
+    trackers = updated;
+    return tracker;
+  }
+
+  /**
+   * Ends the round. If the cut card was reached during the round, the shoe is replaced with a
+   * freshly shuffled one, and its composition and counts are reset. Otherwise the cards of the
+   * round are discarded, and the next round begins with the next card.
+   *
+   * <p>Needs to be called between rounds, once every card of the round has been dealt.
+   */
+  public final void endRound() {
+    if (cutCardReached) {
+      replace();
     } else {
-      return shoe.remove(0);
+      roundStart = cursor;
     }
   }
 
   /**
-   * Returns the shoe.
+   * Returns {@code true} if the cut card has been reached. The shoe will be replaced when the round
+   * ends.
+   *
+   * @return {@code true} if the shoe will be replaced at the end of the round
+   */
+  public final boolean isCutCardReached() {
+    return cutCardReached;
+  }
+
+  /**
+   * Returns the number of cards which are dealt before the cut card is reached.
+   *
+   * @return the position of the cut card
+   */
+  public final int getCutCard() {
+    return cutCard;
+  }
+
+  /**
+   * Returns the number of cards which have not yet been dealt. Nothing is copied to determine the
+   * count.
+   *
+   * @return the count of undealt cards
+   */
+  public final int remaining() {
+    return shoe.length - cursor;
+  }
+
+  /**
+   * Returns a read-only view of the cards which have not yet been dealt, in the order they will be
+   * dealt. The view is only valid until the next call to {@link #deal()}.
    *
-   * @return the shoe.
+   * @return the undealt cards in the shoe.
    */
   public final List<Card> getCards() {
-    return shoe;
+    return Collections.unmodifiableList(Arrays.asList(shoe).subList(cursor, shoe.length));
   }
 }
@@ -0,0 +1,206 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ShoeComposition keeps how many cards of each blackjack value remain in a {@link Shoe}.
+ *
+ * <p>When calculating probabilities the identity and {@link Suit} of a card do not matter, only its
+ * value. There are ten values, 2 through 11, where 10 counts the Ten, Jack, Queen and King and 11
+ * counts the Ace. The counts are held in a ten slot array indexed by {@code value - 2}, therefore
+ * removing, restoring and querying a value are constant time operations.
+ *
+ * @see Shoe#getComposition()
+ * @see Rank#getValue()
+ */
+public class ShoeComposition {
+
+  /**
+   * The lowest value of a card. The Two.
+   */
+  public static final int MIN_VALUE = 2;
+
+  /**
+   * The highest value of a card. The Ace.
+   */
+  public static final int MAX_VALUE = 11;
+
+  /**
+   * The number of distinct card values.
+   */
+  public static final int SLOTS = MAX_VALUE - MIN_VALUE + 1;
+
+  private static final int TEN_SLOT = 10 - MIN_VALUE;
+
+  private final int[] initial;
+  private final int[] counts;
+  private int total;
+
+  /**
+   * Constructor. Creates the composition of a Shoe holding the given number of full decks.
+   *
+   * @param numberOfDecks the number of full decks
+   */
+  public ShoeComposition(final int numberOfDecks) {
+    initial = new int[SLOTS];
+    for (Rank rank : Rank.values()) {
+      initial[rank.getValue() - MIN_VALUE] += numberOfDecks * Suit.values().length;
+    }
+    counts = initial.clone();
+    total = sum(counts);
+  }
+
+  /**
+   * Creates the composition of the given cards.
+   *
+   * @param cards to count
+   */
+  ShoeComposition(final List<Card> cards) {
+    initial = new int[SLOTS];
+    for (Card card : cards) {
+      initial[card.getValue() - MIN_VALUE]++;
+    }
+    counts = initial.clone();
+    total = sum(counts);
+  }
+
+  /**
+   * Creates a copy of another composition, including the counts it was created with.
+   *
+   * @param other to copy
+   */
+  private ShoeComposition(final ShoeComposition other) {
+    initial = other.initial.clone();
+    counts = other.counts.clone();
+    total = other.total;
+  }
+
+  private static int sum(final int[] values) {
+    int sum = 0;
+    for (int value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * Removes a card of the given value.
+   *
+   * @param value of the card, between 2 and 11
+   * @throws IllegalStateException if no card of that value remains
+   */
+  public final void remove(final int value) {
+    int slot = value - MIN_VALUE;
+    if (counts[slot] == 0) {
+      throw new IllegalStateException(
+          String.format("There are no cards with a value of %d remaining", value));
+    }
+    counts[slot]--;
+    total--;
+  }
+
+  /**
+   * Removes a card.
+   *
+   * @param card to remove
+   * @throws IllegalStateException if no card of that value remains
+   */
+  public final void remove(final Card card) {
+    remove(card.getValue());
+  }
+
+  /**
+   * Puts back a card of the given value. This undoes {@link #remove(int)}.
+   *
+   * @param value of the card, between 2 and 11
+   */
+  public final void restore(final int value) {
+    counts[value - MIN_VALUE]++;
+    total++;
+  }
+
+  /**
+   * Puts back every card, returning the composition to the one it was created with.
+   */
+  public final void reset() {
+    System.arraycopy(initial, 0, counts, 0, SLOTS);
+    total = sum(counts);
+  }
+
+  /**
+   * Returns the number of cards of the given value which remain.
+   *
+   * @param value of the card, between 2 and 11
+   * @return the count of cards with that value
+   */
+  public final int count(final int value) {
+    return counts[value - MIN_VALUE];
+  }
+
+  /**
+   * Returns the number of cards which remain.
+   *
+   * @return the count of all cards
+   */
+  public final int total() {
+    return total;
+  }
+
+  /**
+   * Returns the probability that the next card has the given value.
+   *
+   * @param value of the card, between 2 and 11
+   * @return a probability between 0 and 1
+   */
+  public final double probability(final int value) {
+    return total == 0 ? 0 : (double) counts[value - MIN_VALUE] / total;
+  }
+
+  /**
+   * Returns the probability that the next card has the value of the given {@link Rank}. All ranks
+   * worth ten points share one probability.
+   *
+   * @param rank of the card
+   * @return a probability between 0 and 1
+   */
+  public final double probability(final Rank rank) {
+    return probability(rank.getValue());
+  }
+
+  /**
+   * Packs the counts into a single {@code long}, so a composition can key a cache without creating
+   * an object. The Twos through Nines and the Aces take 6 bits each and the ten-valued cards take 8
+   * bits, which holds every composition of up to {@link
+   * com.frijolie.cards.blackjack.model.game.GameRules#MAX_NUMBER_OF_DECKS} decks. Two compositions
+   * with the same counts pack to the same value.
+   *
+   * @return the packed counts
+   */
+  public final long pack() {
+    long packed = 0;
+    for (int slot = 0; slot < SLOTS; slot++) {
+      packed = (packed << (slot == TEN_SLOT ? 8 : 6)) | counts[slot];
+    }
+    return packed;
+  }
+
+  /**
+   * Returns an independent copy of this composition.
+   *
+   * @return a new ShoeComposition
+   */
+  public final ShoeComposition copy() {
+    return new ShoeComposition(this);
+  }
+
+  /**
+   * Returns the counts, lowest value first. For example, "[4, 4, 4, 4, 4, 4, 4, 4, 16, 4]".
+   *
+   * @return a String representation of the counts
+   */
+  @Override
+  public String toString() {
+    return Arrays.toString(counts);
+  }
+}
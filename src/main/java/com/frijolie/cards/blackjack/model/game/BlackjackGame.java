@@ -1,43 +1,112 @@
 package com.frijolie.cards.blackjack.model.game;
 
+import com.frijolie.cards.blackjack.model.cards.BlackjackHand;
 import com.frijolie.cards.blackjack.model.cards.Card;
 import com.frijolie.cards.blackjack.model.cards.Hand;
 import com.frijolie.cards.blackjack.model.cards.HandResult;
 import com.frijolie.cards.blackjack.model.cards.Rank;
 import com.frijolie.cards.blackjack.model.cards.Shoe;
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+import com.frijolie.cards.blackjack.model.players.Action;
 import com.frijolie.cards.blackjack.model.players.BlackjackDealer;
 import com.frijolie.cards.blackjack.model.players.BlackjackPlayer;
 import com.frijolie.cards.blackjack.model.players.Player;
 
+import java.util.List;
+import java.util.Objects;
+
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
-import javafx.collections.ObservableList;
 
+/**
+ * A table of blackjack with between one and {@link GameRules#MAX_SEATS} seats, each with a {@link
+ * BlackjackPlayer} and its hand, and a single dealer.
+ *
+ * <p>The seats are fixed when the game is created. Cards are dealt from one {@link Shoe} in the
+ * order of a real table: a card to each seat in turn, then one to the dealer, then a second round
+ * in the same order. The dealer acts once, after the last seat has finished, and every seat is then
+ * settled against the dealer's hand.
+ *
+ * <p>The first seat is the player of {@link #getPlayer()}. The hint, the expected values and the
+ * offer of surrender without a seat given refer to it.
+ */
 public class BlackjackGame implements Game {
 
   private final BlackjackDealer dealer;
   private final BlackjackPlayer player;
+  private final BlackjackPlayer[] seats;
   private final Hand dealerHand;
   private final Hand playerHand;
   private final Shoe shoe;
-  private final ObservableList<Card> dealerCards;
-  private final ObservableList<Card> playerCards;
+  private final List<Card> dealerCards;
   private BooleanProperty offerInsurance;
   private BooleanProperty offerSurrender;
   private BooleanProperty gameIsOver;
+  private boolean dealing;
+  private final RuleSet rules;
+  private ExpectedValueSolver solver;
 
   /**
-   * Default no-arg constructor. Instantiates objects and sets defaults.
+   * Default no-arg constructor. Instantiates objects and sets defaults. The rules are a snapshot
+   * of {@link GameRules} taken when the game is created.
+   *
+   * @see RuleSet#fromGameRules()
    */
   public BlackjackGame() {
-    shoe = new Shoe();
-    player = new BlackjackPlayer();
-    dealer = new BlackjackDealer();
+    this(RuleSet.fromGameRules());
+  }
+
+  /**
+   * Overloaded constructor. Instantiates objects and sets defaults. The shoe, the hands and the
+   * dealer all play by the given {@link RuleSet}.
+   *
+   * @param rules of the table
+   * @throws NullPointerException if rules is null
+   */
+  public BlackjackGame(final RuleSet rules) {
+    this(rules, 1);
+  }
+
+  /**
+   * Overloaded constructor. Seats a new {@link BlackjackPlayer} in each of the given number of
+   * seats. The shoe, the hands and the dealer all play by the given {@link RuleSet}.
+   *
+   * @param rules of the table
+   * @param seats at the table, between 1 and {@link GameRules#MAX_SEATS}
+   * @throws NullPointerException     if rules is null
+   * @throws IllegalArgumentException if the number of seats is out of range
+   */
+  public BlackjackGame(final RuleSet rules, final int seats) {
+    this(rules, newPlayers(rules, seats));
+  }
+
+  /**
+   * Overloaded constructor. Seats the given players, the first in the first seat. The shoe, the
+   * hands and the dealer all play by the given {@link RuleSet}.
+   *
+   * @param rules   of the table
+   * @param players to seat, between 1 and {@link GameRules#MAX_SEATS}
+   * @throws NullPointerException     if rules or a player is null
+   * @throws IllegalArgumentException if the number of players is out of range
+   */
+  public BlackjackGame(final RuleSet rules, final BlackjackPlayer... players) {
+    this(Objects.requireNonNull(rules, "You must pass a non-null RuleSet"), new Shoe(rules),
+        checkSeats(players), new BlackjackDealer(rules));
+  }
+
+  private BlackjackGame(final RuleSet rules, final Shoe shoe, final BlackjackPlayer[] seats,
+      final BlackjackDealer dealer) {
+    this.rules = rules;
+    this.shoe = shoe;
+    this.seats = seats;
+    this.player = seats[0];
+    this.dealer = dealer;
     dealerHand = dealer.getHand();
     dealerCards = dealerHand.getCards();
     playerHand = player.getHand();
-    playerCards = playerHand.getCards();
-    player.joinGame(this);
+    for (BlackjackPlayer seat : seats) {
+      seat.joinGame(this);
+    }
     dealer.joinGame(this);
     offerInsurance = new SimpleBooleanProperty();
     offerSurrender = new SimpleBooleanProperty();
@@ -46,35 +115,55 @@ public class BlackjackGame implements Game {
     playGame();
   }
 
+  /**
+   * Settles every seat in play against the dealer. A bankrupt seat was not dealt in, therefore it
+   * is not settled. The result of the dealer's hand is that against the first seat in play.
+   */
   @Override
   public final void determineWinner() {
+    HandResult dealerResult = null;
+    for (BlackjackPlayer seat : seats) {
+      if (!seat.isBankrupt()) {
+        HandResult result = settle(seat.getHand());
+        if (dealerResult == null) {
+          dealerResult = result;
+        }
+      }
+    }
+    if (dealerResult != null) {
+      dealerHand.setHandResult(dealerResult);
+    }
+  }
+
+  /**
+   * Settles the hand of one seat against the dealer. A BUST hand loses even if the dealer busts as
+   * well, which may happen once several seats share the dealer.
+   *
+   * @param playerHand of the seat
+   * @return the result of the dealer's hand against the seat
+   */
+  private HandResult settle(final Hand playerHand) {
     int playerScore = playerHand.getScore();
     int dealerScore = dealerHand.getScore();
 
-    if (playerScore > GameRules.MAX_SCORE && dealerScore <= GameRules.MAX_SCORE) {
-      dealerHand.setHandResult(HandResult.WIN);
+    if (playerScore > GameRules.MAX_SCORE) {
       playerHand.setHandResult(HandResult.BUST);
+      return HandResult.WIN;
     }
-
-    if (dealerScore > GameRules.MAX_SCORE && playerScore <= GameRules.MAX_SCORE) {
-      dealerHand.setHandResult(HandResult.BUST);
+    if (dealerScore > GameRules.MAX_SCORE) {
       playerHand.setHandResult(HandResult.WIN);
+      return HandResult.BUST;
     }
-
-    if (playerScore > dealerScore && playerScore <= GameRules.MAX_SCORE) {
-      dealerHand.setHandResult(HandResult.LOSE);
+    if (playerScore > dealerScore) {
       playerHand.setHandResult(HandResult.WIN);
+      return HandResult.LOSE;
     }
-
-    if (dealerScore > playerScore && dealerScore <= GameRules.MAX_SCORE) {
-      dealerHand.setHandResult(HandResult.WIN);
+    if (dealerScore > playerScore) {
       playerHand.setHandResult(HandResult.LOSE);
+      return HandResult.WIN;
     }
-
-    if (playerScore == dealerScore && playerScore <= GameRules.MAX_SCORE) {
-      dealerHand.setHandResult(HandResult.PUSH);
-      playerHand.setHandResult(HandResult.PUSH);
-    }
+    playerHand.setHandResult(HandResult.PUSH);
+    return HandResult.PUSH;
   }
 
   @Override
@@ -84,9 +173,23 @@ public class BlackjackGame implements Game {
     calculateOfferSurrender();
   }
 
+  /**
+   * Resets the game for another round, then plays it. The hands, players, listeners and {@link
+   * Shoe} of the previous round are reused, therefore no new model objects are created. The round
+   * boundary is where the Shoe is replaced, if the cut card was reached in the previous round.
+   */
   @Override
   public final void newGame() {
-    throw new UnsupportedOperationException("unimplemented method");
+    dealing = true;
+    gameIsOver.set(false);
+    offerInsurance.set(false);
+    offerSurrender.set(false);
+    for (BlackjackPlayer seat : seats) {
+      seat.reset();
+    }
+    dealer.reset();
+    shoe.endRound();
+    playGame();
   }
 
   @Override
@@ -94,6 +197,26 @@ public class BlackjackGame implements Game {
     return player;
   }
 
+  /**
+   * Returns the player in the given seat.
+   *
+   * @param seat from 0, the first seat dealt to
+   * @return the player in the seat
+   * @throws IndexOutOfBoundsException if there is no such seat
+   */
+  public final BlackjackPlayer getSeat(final int seat) {
+    return seats[seat];
+  }
+
+  /**
+   * Returns the number of seats at the table.
+   *
+   * @return the number of seats
+   */
+  public final int getNumberOfSeats() {
+    return seats.length;
+  }
+
   @Override
   public final Player getDealer() {
     return dealer;
@@ -105,14 +228,157 @@ public class BlackjackGame implements Game {
   }
 
   /**
-   * Deals card to player, then one to dealer, the repeats. Ends with both the player and dealer
-   * have two cards each.
+   * Returns the dealer's face up card, the second card dealt to the dealer.
+   *
+   * @return the dealer's up card
+   * @throws IndexOutOfBoundsException if the dealer has fewer than two cards
+   */
+  public final Card getDealerUpCard() {
+    return dealerCards.get(1);
+  }
+
+  /**
+   * Returns the action basic strategy recommends for the player's hand against the dealer's up
+   * card, under the rules of the table.
+   *
+   * @return the recommended action
+   * @see StrategyEngine
+   */
+  public final Action getHint() {
+    return getHint(0);
+  }
+
+  /**
+   * Returns the action basic strategy recommends for the hand in the given seat against the
+   * dealer's up card, under the rules of the table.
+   *
+   * @param seat from 0, the first seat dealt to
+   * @return the recommended action
+   * @throws IndexOutOfBoundsException if there is no such seat
+   * @see StrategyEngine
+   */
+  public final Action getHint(final int seat) {
+    return StrategyEngine.decide(seats[seat].getHand(), getDealerUpCard(), getRuleSet());
+  }
+
+  /**
+   * Returns the expected value of each action allowed for the player's hand, calculated from the
+   * cards remaining in the shoe. The dealer's hole card is unknown to the player, so it is counted
+   * as remaining. The values assume the dealer has checked for blackjack, which this game does not
+   * do; see {@link ExpectedValueSolver}.
+   *
+   * @return the expected value of each allowed action
+   * @see ExpectedValueSolver
+   */
+  public final ExpectedValues getExpectedValues() {
+    return getExpectedValues(0);
+  }
+
+  /**
+   * Returns the expected value of each action allowed for the hand in the given seat, calculated
+   * from the cards remaining in the shoe. The cards of the other seats are in view and so are not
+   * remaining, while the dealer's hole card is counted as remaining.
+   *
+   * @param seat from 0, the first seat dealt to
+   * @return the expected value of each allowed action
+   * @throws IndexOutOfBoundsException if there is no such seat
+   * @see ExpectedValueSolver
+   */
+  public final ExpectedValues getExpectedValues(final int seat) {
+    if (solver == null) {
+      solver = new ExpectedValueSolver();
+    }
+    ShoeComposition remaining = shoe.getComposition().copy();
+    remaining.restore(dealerCards.get(0).getValue());
+    return solver.solve((BlackjackHand) seats[seat].getHand(), getDealerUpCard(), remaining,
+        getRuleSet());
+  }
+
+  /**
+   * Returns the rules of the table.
+   *
+   * @return the rules of the table
+   */
+  public final RuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Deals a card to each seat in turn, then one to the dealer, then repeats. Ends with every seat
+   * and the dealer having two cards each. A bankrupt player is not dealt in.
+   *
+   * <p>The dealer does not take a turn until every initial card has been dealt. If every seat
+   * became inactive during the deal, for example with blackjack, the dealer plays once the deal is
+   * complete.
    */
   private void dealInitialCards() {
+    dealing = true;
     for (int i = 0; i < 2; i++) {
-      dealTo(player);
+      for (BlackjackPlayer seat : seats) {
+        if (!seat.isBankrupt()) {
+          dealTo(seat);
+        }
+      }
       dealTo(dealer);
     }
+    dealing = false;
+    if (allSeatsFinished()) {
+      playDealer();
+    }
+  }
+
+  /**
+   * Plays the dealer turn once every seat has finished. The dealer does not draw if every hand is
+   * BUST or has blackjack, as no result depends on the dealer drawing.
+   */
+  private void playDealer() {
+    for (BlackjackPlayer seat : seats) {
+      Hand hand = seat.getHand();
+      if (!seat.isBankrupt() && !hand.isBust() && !hand.hasBlackjack()) {
+        dealer.takeTurn();
+        return;
+      }
+    }
+    dealer.stand();
+  }
+
+  /**
+   * Returns {@code true} if no seat is still playing its hand.
+   *
+   * @return {@code true} if every seat has finished
+   */
+  private boolean allSeatsFinished() {
+    for (BlackjackPlayer seat : seats) {
+      if (seat.isActive()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static BlackjackPlayer[] newPlayers(final RuleSet rules, final int seats) {
+    checkSeatCount(seats);
+    BlackjackPlayer[] players = new BlackjackPlayer[seats];
+    for (int i = 0; i < seats; i++) {
+      players[i] = new BlackjackPlayer(rules);
+    }
+    return players;
+  }
+
+  private static BlackjackPlayer[] checkSeats(final BlackjackPlayer[] players) {
+    checkSeatCount(players.length);
+    BlackjackPlayer[] seats = players.clone();
+    for (BlackjackPlayer seat : seats) {
+      Objects.requireNonNull(seat, "A seat cannot hold a null player");
+    }
+    return seats;
+  }
+
+  private static void checkSeatCount(final int seats) {
+    if (seats < 1 || seats > GameRules.MAX_SEATS) {
+      throw new IllegalArgumentException(String.format(
+          "A table must have between 1 and %d seats: %d", GameRules.MAX_SEATS, seats));
+    }
   }
 
   /**
@@ -126,11 +392,11 @@ public class BlackjackGame implements Game {
 
   /**
    * Calculates the value of offerInsurance. This will be {@code true} if the dealer top (face-up)
-   * card is an Ace, the Dealer has two cards, and {@link GameRules#OFFER_INSURANCE} is {@code
-   * true}. After the calculation has been made the value of {@link #offerInsurance} is set.
+   * card is an Ace, the Dealer has two cards, and insurance is offered by the {@link RuleSet}.
+   * After the calculation has been made the value of {@link #offerInsurance} is set.
    */
   private void calculateOfferInsurance() {
-    offerInsurance.set(GameRules.OFFER_INSURANCE && dealerShowingAce() && dealerHand.hasTwoCards());
+    offerInsurance.set(rules.isOfferInsurance() && dealerShowingAce() && dealerHand.hasTwoCards());
   }
 
   /**
@@ -153,13 +419,12 @@ public class BlackjackGame implements Game {
   }
 
   /**
-   * Calculates the value of {@link #offerSurrender}. This will be {@code true} if {@link
-   * GameRules#OFFER_SURRENDER} is {@code true}, the player has two cards, and the players hand
-   * value is less than 21. After the calculation has been made, the value is set in {@code
-   * offerSurrender}.
+   * Calculates the value of {@link #offerSurrender}. This will be {@code true} if surrender is
+   * offered by the {@link RuleSet}, the player has two cards, and the players hand value is less
+   * than 21. After the calculation has been made, the value is set in {@code offerSurrender}.
    */
   private void calculateOfferSurrender() {
-    offerSurrender.set(GameRules.OFFER_SURRENDER
+    offerSurrender.set(rules.isOfferSurrender()
         && playerHand.hasTwoCards()
         && playerHand.getScore() < GameRules.MAX_SCORE);
   }
@@ -218,16 +483,14 @@ public class BlackjackGame implements Game {
   }
 
   private void configureListeners() {
-    player.isActiveProperty()
-        .addListener((observable, oldValue, isActive) -> {
-          if (!isActive) {
-            if (player.getHand().isBust()) {
-              dealer.stand();
-            } else {
-              dealer.takeTurn();
+    for (BlackjackPlayer seat : seats) {
+      seat.isActiveProperty()
+          .addListener((observable, oldValue, isActive) -> {
+            if (!isActive && !dealing && allSeatsFinished()) {
+              playDealer();
             }
-          }
-        });
+          });
+    }
 
     dealer.isActiveProperty()
         .addListener((observable, oldValue, isActive) -> {
@@ -0,0 +1,85 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+
+/**
+ * An enumeration of the ways the dealer's hand can finish. The dealer stands on a total of 17
+ * through 21, has blackjack, or busts.
+ *
+ * @see DealerOutcomeCalculator
+ */
+public enum DealerOutcome {
+
+  /**
+   * The dealer stands on 17.
+   */
+  SEVENTEEN(17),
+
+  /**
+   * The dealer stands on 18.
+   */
+  EIGHTEEN(18),
+
+  /**
+   * The dealer stands on 19.
+   */
+  NINETEEN(19),
+
+  /**
+   * The dealer stands on 20.
+   */
+  TWENTY(20),
+
+  /**
+   * The dealer stands on 21 with three or more cards.
+   */
+  TWENTY_ONE(21),
+
+  /**
+   * The dealer has two cards and a score of 21 points.
+   */
+  BLACKJACK(21),
+
+  /**
+   * The dealer's score exceeds 21 points.
+   */
+  BUST(0);
+
+  private static final DealerOutcome[] VALUES = values();
+
+  private final int total;
+
+  DealerOutcome(final int total) {
+    this.total = total;
+  }
+
+  /**
+   * Returns the total the dealer stands on. A BUST hand returns 0.
+   *
+   * @return the final total of the dealer
+   */
+  public final int getTotal() {
+    return total;
+  }
+
+  /**
+   * Returns the outcome of a dealer hand which has finished in the given state.
+   *
+   * @param state a {@link HandStateTable} state in which the dealer stands
+   * @return the outcome of the hand
+   * @throws IllegalArgumentException if the dealer would not stand in the given state
+   */
+  public static DealerOutcome of(final int state) {
+    if (state == HandStateTable.BLACKJACK) {
+      return BLACKJACK;
+    }
+    if (state == HandStateTable.BUST) {
+      return BUST;
+    }
+    final int total = HandStateTable.total(state);
+    if (total < SEVENTEEN.total) {
+      throw new IllegalArgumentException("The dealer does not stand on " + total);
+    }
+    return VALUES[total - SEVENTEEN.total];
+  }
+}
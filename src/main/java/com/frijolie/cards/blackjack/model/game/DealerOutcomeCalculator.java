@@ -0,0 +1,127 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+import com.frijolie.cards.blackjack.model.players.BlackjackDealer;
+
+import java.util.Arrays;
+
+/**
+ * DealerOutcomeCalculator calculates the exact probability of each {@link DealerOutcome} from the
+ * dealer's up card and the cards remaining in the shoe.
+ *
+ * <p>Every sequence of cards the dealer could draw is followed, removing each card from the
+ * composition as it is drawn. The dealer draws as {@link BlackjackDealer#takeTurn()} does, hitting
+ * a soft 17 when told to. Paths which would need more cards than remain are not counted.
+ *
+ * <p>Results are kept in a fixed size memo keyed by the {@link ShoeComposition#pack() packed}
+ * composition, the up card and the soft 17 rule. Each key maps to a single slot and a newer result
+ * replaces an older one, so the memo never grows. Repeated queries during a shoe are answered
+ * without recursion and without creating objects.
+ *
+ * <p>A DealerOutcomeCalculator is not thread safe. Each thread should use its own.
+ *
+ * @see DealerOutcome
+ * @see ShoeComposition
+ */
+public class DealerOutcomeCalculator {
+
+  /**
+   * The number of results held by the memo of a calculator created with the no-arg constructor.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 12;
+
+  private static final int OUTCOMES = DealerOutcome.values().length;
+
+  private final TranspositionTable memo;
+  private final double[] results;
+  private boolean hitsSoft17;
+
+  /**
+   * Default no-arg constructor. The memo holds {@link #DEFAULT_CAPACITY} results.
+   */
+  public DealerOutcomeCalculator() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Overloaded constructor. The memo holds at least the given number of results, rounded up to a
+   * power of two.
+   *
+   * @param capacity the number of results held by the memo
+   * @throws IllegalArgumentException if capacity is less than 1
+   */
+  public DealerOutcomeCalculator(final int capacity) {
+    memo = new TranspositionTable(capacity, OUTCOMES);
+    results = memo.values();
+  }
+
+  /**
+   * Returns the probability of each {@link DealerOutcome}, indexed by its ordinal, in a new array.
+   *
+   * @param upValue     value of the dealer's up card, between 2 and 11
+   * @param composition of the cards remaining, which must not include the up card
+   * @param hitsSoft17  {@code true} if the dealer hits a soft 17
+   * @return the probabilities, indexed by {@link DealerOutcome#ordinal()}
+   * @see #calculate(int, ShoeComposition, boolean, double[])
+   */
+  public final double[] calculate(final int upValue, final ShoeComposition composition,
+      final boolean hitsSoft17) {
+    final double[] probabilities = new double[OUTCOMES];
+    calculate(upValue, composition, hitsSoft17, probabilities);
+    return probabilities;
+  }
+
+  /**
+   * Writes the probability of each {@link DealerOutcome}, indexed by its ordinal, into the given
+   * array. The composition is used while calculating and is left unchanged.
+   *
+   * @param upValue       value of the dealer's up card, between 2 and 11
+   * @param composition   of the cards remaining, which must not include the up card
+   * @param hitsSoft17    {@code true} if the dealer hits a soft 17
+   * @param probabilities receives the probabilities, at least {@code DealerOutcome.values().length}
+   *                      long
+   * @throws IllegalArgumentException if upValue is out of range
+   */
+  public final void calculate(final int upValue, final ShoeComposition composition,
+      final boolean hitsSoft17, final double[] probabilities) {
+    if (upValue < ShoeComposition.MIN_VALUE || upValue > ShoeComposition.MAX_VALUE) {
+      throw new IllegalArgumentException("Up card value out of range: " + upValue);
+    }
+    final long key = composition.pack();
+    final int tag = (upValue << 1 | (hitsSoft17 ? 1 : 0)) + 1;
+    final int slot = memo.slot(key, tag);
+    final int offset = memo.offset(slot);
+    if (!memo.contains(slot, key, tag)) {
+      Arrays.fill(results, offset, offset + OUTCOMES, 0);
+      this.hitsSoft17 = hitsSoft17;
+      draw(HandStateTable.single(upValue), composition, 1, offset);
+      memo.store(slot, key, tag);
+    }
+    System.arraycopy(results, offset, probabilities, 0, OUTCOMES);
+  }
+
+  /**
+   * Follows every card the dealer could draw from the given state, adding the probability of each
+   * finished hand to its outcome.
+   */
+  private void draw(final int state, final ShoeComposition composition, final double probability,
+      final int offset) {
+    if (!HandStateTable.dealerMustHit(state, hitsSoft17)) {
+      results[offset + DealerOutcome.of(state).ordinal()] += probability;
+      return;
+    }
+    final int total = composition.total();
+    if (total == 0) {
+      return;
+    }
+    for (int value = ShoeComposition.MIN_VALUE; value <= ShoeComposition.MAX_VALUE; value++) {
+      final int count = composition.count(value);
+      if (count > 0) {
+        composition.remove(value);
+        draw(HandStateTable.next(state, value), composition, probability * count / total, offset);
+        composition.restore(value);
+      }
+    }
+  }
+}
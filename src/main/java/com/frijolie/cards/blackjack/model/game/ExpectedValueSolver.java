@@ -0,0 +1,235 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.cards.Card;
+import com.frijolie.cards.blackjack.model.cards.Hand;
+import com.frijolie.cards.blackjack.model.cards.HandPermissions;
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.cards.Rank;
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * ExpectedValueSolver calculates the expected value of each action allowed for a hand, given the
+ * dealer's up card and the cards remaining in the shoe.
+ *
+ * <p>The dealer's final totals come from a {@link DealerOutcomeCalculator} for the composition at
+ * the time of the decision. They are conditioned on the dealer not having blackjack, as at a table
+ * where the dealer checks for blackjack before the player acts. {@link BlackjackGame} makes no
+ * such check, so for its hands the values are those of a table which does, and a hand the dealer
+ * turns out to have beaten with blackjack is not accounted for. The player's draws are
+ * composition dependent: each card the player could draw is removed from the composition before
+ * the next is considered.
+ *
+ * <p>The value of hitting is found by a recursive search which, at each card drawn, plays on
+ * whichever of standing or hitting is better. Every result is stored in a {@link
+ * TranspositionTable} keyed by the packed composition and the state of the hand, so a position
+ * reached through different orders of the same cards is calculated once. Splitting is valued as
+ * two hands, each starting with one card of the pair. A pair is split once, and split Aces receive
+ * a single card each.
+ *
+ * <p>An ExpectedValueSolver is not thread safe. Each thread should use its own.
+ *
+ * @see ExpectedValues
+ * @see DealerOutcomeCalculator
+ */
+public class ExpectedValueSolver {
+
+  /**
+   * The number of results held by the transposition table of a solver created with the no-arg
+   * constructor.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private static final int ACTIONS = Action.values().length;
+  private static final int STATE_BITS = 7;
+  private static final DealerOutcome[] STANDING = {DealerOutcome.SEVENTEEN,
+      DealerOutcome.EIGHTEEN, DealerOutcome.NINETEEN, DealerOutcome.TWENTY,
+      DealerOutcome.TWENTY_ONE};
+
+  private final DealerOutcomeCalculator dealer;
+  private final TranspositionTable table;
+  private final double[] hitValues;
+  private final double[] outcomes;
+  private final double[] standValues;
+  private int generation;
+
+  /**
+   * Default no-arg constructor. The transposition table holds {@link #DEFAULT_CAPACITY} results.
+   */
+  public ExpectedValueSolver() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Overloaded constructor. The transposition table holds at least the given number of results,
+   * rounded up to a power of two.
+   *
+   * @param capacity the number of results held by the transposition table
+   * @throws IllegalArgumentException if capacity is less than 1
+   */
+  public ExpectedValueSolver(final int capacity) {
+    dealer = new DealerOutcomeCalculator();
+    table = new TranspositionTable(capacity, 1);
+    hitValues = table.values();
+    outcomes = new double[DealerOutcome.values().length];
+    standValues = new double[GameRules.MAX_SCORE + 1];
+  }
+
+  /**
+   * Calculates the expected value of standing, and of each of hitting, doubling down and
+   * splitting which the hand allows. Surrendering is valued when the rules offer it and the hand
+   * has two cards.
+   *
+   * @param hand         of the player
+   * @param dealerUpCard the dealer's face up card
+   * @param composition  of the cards unseen by the player, which must include neither the
+   *                     player's cards nor the up card. The dealer's hole card is unseen, so it
+   *                     must be included. It is left unchanged.
+   * @param rules        of the table
+   * @param <T>          a hand which exposes the moves it allows
+   * @return the expected value of each allowed action
+   * @throws NullPointerException if an argument is null
+   */
+  public final <T extends Hand & HandPermissions> ExpectedValues solve(final T hand,
+      final Card dealerUpCard, final ShoeComposition composition, final RuleSet rules) {
+    Objects.requireNonNull(hand, "The hand cannot be null");
+    Objects.requireNonNull(dealerUpCard, "The dealer up card cannot be null");
+    Objects.requireNonNull(composition, "The composition cannot be null");
+    Objects.requireNonNull(rules, "The rules cannot be null");
+    prepare(dealerUpCard.getValue(), composition, rules.dealerHitsSoft17());
+
+    final int state = hand.getStateId();
+    final double[] values = new double[ACTIONS];
+    Arrays.fill(values, Double.NaN);
+    values[Action.STAND.ordinal()] = state == HandStateTable.BLACKJACK && hand.hasTwoCards()
+        ? GameRules.BLACKJACK_PAYOUT : stand(state);
+    if (hand.canHit()) {
+      values[Action.HIT.ordinal()] = hit(state, composition);
+    }
+    if (hand.canDouble()) {
+      values[Action.DOUBLE_DOWN.ordinal()] = doubleDown(state, composition);
+    }
+    if (hand.canSplit()) {
+      values[Action.SPLIT.ordinal()] = split(HandStateTable.pairValue(state), composition, rules);
+    }
+    if (rules.isOfferSurrender() && hand.hasTwoCards() && hand.canHit()) {
+      values[Action.SURRENDER.ordinal()] = -0.5;
+    }
+    return new ExpectedValues(values);
+  }
+
+  /**
+   * Calculates the dealer's outcomes for the composition, and from them the value of standing on
+   * every total. A new generation is started so earlier results in the table are not reused. When
+   * the generations run out they start again from 1, and the table is cleared so that no result of
+   * an old generation is mistaken for a new one.
+   */
+  private void prepare(final int upValue, final ShoeComposition composition,
+      final boolean hitsSoft17) {
+    dealer.calculate(upValue, composition, hitsSoft17, outcomes);
+    final double noBlackjack = 1 - outcomes[DealerOutcome.BLACKJACK.ordinal()];
+    outcomes[DealerOutcome.BLACKJACK.ordinal()] = 0;
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] /= noBlackjack;
+    }
+    final double bust = outcomes[DealerOutcome.BUST.ordinal()];
+    for (int total = 0; total <= GameRules.MAX_SCORE; total++) {
+      double value = bust;
+      for (DealerOutcome outcome : STANDING) {
+        if (total > outcome.getTotal()) {
+          value += outcomes[outcome.ordinal()];
+        } else if (total < outcome.getTotal()) {
+          value -= outcomes[outcome.ordinal()];
+        }
+      }
+      standValues[total] = value;
+    }
+    if (generation == Integer.MAX_VALUE >> STATE_BITS) {
+      table.clear();
+      generation = 1;
+    } else {
+      generation++;
+    }
+  }
+
+  private double stand(final int state) {
+    return state == HandStateTable.BUST ? -1 : standValues[HandStateTable.total(state)];
+  }
+
+  /**
+   * Returns the value of drawing one card, then playing on by standing or hitting, whichever is
+   * better.
+   */
+  private double hit(final int state, final ShoeComposition composition) {
+    final long key = composition.pack();
+    final int tag = generation << STATE_BITS | state;
+    final int slot = table.slot(key, tag);
+    if (table.contains(slot, key, tag)) {
+      return hitValues[table.offset(slot)];
+    }
+    final int total = composition.total();
+    double value = 0;
+    for (int card = ShoeComposition.MIN_VALUE; card <= ShoeComposition.MAX_VALUE; card++) {
+      final int count = composition.count(card);
+      if (count > 0) {
+        composition.remove(card);
+        final int next = HandStateTable.next(state, card);
+        double best = stand(next);
+        if (next != HandStateTable.BUST && HandStateTable.total(next) < GameRules.MAX_SCORE) {
+          best = Math.max(best, hit(next, composition));
+        }
+        value += best * count / total;
+        composition.restore(card);
+      }
+    }
+    hitValues[table.offset(slot)] = value;
+    table.store(slot, key, tag);
+    return value;
+  }
+
+  /**
+   * Returns the value of doubling the bet and drawing exactly one card.
+   */
+  private double doubleDown(final int state, final ShoeComposition composition) {
+    final int total = composition.total();
+    double value = 0;
+    for (int card = ShoeComposition.MIN_VALUE; card <= ShoeComposition.MAX_VALUE; card++) {
+      final int count = composition.count(card);
+      if (count > 0) {
+        value += stand(HandStateTable.next(state, card)) * count / total;
+      }
+    }
+    return 2 * value;
+  }
+
+  /**
+   * Returns the value of splitting a pair of cards of the given value into two hands.
+   */
+  private double split(final int pairValue, final ShoeComposition composition,
+      final RuleSet rules) {
+    final int start = HandStateTable.single(pairValue);
+    final int total = composition.total();
+    double value = 0;
+    for (int card = ShoeComposition.MIN_VALUE; card <= ShoeComposition.MAX_VALUE; card++) {
+      final int count = composition.count(card);
+      if (count > 0) {
+        composition.remove(card);
+        final int next = HandStateTable.next(start, card);
+        double best = stand(next);
+        if (pairValue != Rank.ACE.getValue() && HandStateTable.total(next) < GameRules.MAX_SCORE) {
+          best = Math.max(best, hit(next, composition));
+          final int score = HandStateTable.total(next);
+          if (rules.isDoubleDownAllowed() && score > 8 && score < 12) {
+            best = Math.max(best, doubleDown(next, composition));
+          }
+        }
+        value += best * count / total;
+        composition.restore(card);
+      }
+    }
+    return 2 * value;
+  }
+}
@@ -0,0 +1,74 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.util.StringJoiner;
+
+/**
+ * ExpectedValues holds the expected value of each {@link Action} allowed for a hand, as calculated
+ * by an {@link ExpectedValueSolver}. Values are measured in units of the initial bet.
+ *
+ * @see ExpectedValueSolver
+ */
+public final class ExpectedValues {
+
+  private static final Action[] ACTIONS = Action.values();
+
+  private final double[] values;
+
+  /**
+   * Creates the expected values. The array is indexed by {@link Action#ordinal()}, and holds
+   * {@link Double#NaN} for each action which is not allowed.
+   *
+   * @param values the expected values, owned by this object from then on
+   */
+  ExpectedValues(final double[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Returns {@code true} if the action is allowed for the hand.
+   *
+   * @param action to check
+   * @return {@code true} if the action is allowed
+   */
+  public boolean isAllowed(final Action action) {
+    return !Double.isNaN(values[action.ordinal()]);
+  }
+
+  /**
+   * Returns the expected value of the action.
+   *
+   * @param action to value
+   * @return the expected value, or {@link Double#NaN} if the action is not allowed
+   */
+  public double get(final Action action) {
+    return values[action.ordinal()];
+  }
+
+  /**
+   * Returns the allowed action with the highest expected value.
+   *
+   * @return the best action
+   */
+  public Action best() {
+    Action best = Action.STAND;
+    for (Action action : ACTIONS) {
+      if (isAllowed(action) && get(action) > get(best)) {
+        best = action;
+      }
+    }
+    return best;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(", ", "[", "]");
+    for (Action action : ACTIONS) {
+      if (isAllowed(action)) {
+        joiner.add(String.format("%s=%.4f", action, get(action)));
+      }
+    }
+    return joiner.toString();
+  }
+}
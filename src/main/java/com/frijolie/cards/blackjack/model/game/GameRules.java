@@ -31,11 +31,31 @@ public abstract class GameRules {
    */
   public static final int MAX_NUMBER_OF_DECKS = 8;
 
+  /**
+   * The default fraction of the Shoe which is dealt before the cut card is reached and the Shoe
+   * is replaced with a freshly shuffled one.
+   *
+   * @see Shoe
+   */
+  public static final double DEFAULT_PENETRATION = 0.75;
+
+  /**
+   * The most seats a table may have.
+   *
+   * @see BlackjackGame
+   */
+  public static final int MAX_SEATS = 7;
+
   /**
    * The highest score a hand can have without a BUST.
    */
   public static final int MAX_SCORE = 21;
 
+  /**
+   * The amount won for each unit wagered when the player has blackjack. Blackjack pays 3 to 2.
+   */
+  public static final double BLACKJACK_PAYOUT = 1.5;
+
   /**
    * The starting funds for the player. This allows the player place bets and receive proceeds from
    * winning bets.
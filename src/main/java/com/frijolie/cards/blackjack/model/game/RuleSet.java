@@ -0,0 +1,226 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.cards.BlackjackHand;
+import com.frijolie.cards.blackjack.model.cards.Shoe;
+import com.frijolie.cards.blackjack.model.players.BlackjackDealer;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * RuleSet is an immutable set of the rules played at one table.
+ *
+ * <p>{@link GameRules} holds its settings in mutable static fields, which every table in the JVM
+ * shares. A RuleSet holds the same settings in final fields and is passed to a {@link Shoe}, a
+ * {@link BlackjackHand}, a {@link BlackjackDealer} or a {@link BlackjackGame} when it is created.
+ * Tables with different rules may then be played, or simulated, side by side.
+ *
+ * <p>{@link #fromGameRules()} takes a snapshot of the current {@code GameRules}. Objects created
+ * without a RuleSet play by such a snapshot, taken when the object is created, so later changes to
+ * {@code GameRules} do not reach them.
+ *
+ * @see GameRules
+ */
+public final class RuleSet {
+
+  private final int numberOfDecks;
+  private final double penetration;
+  private final boolean dealerHitsSoft17;
+  private final boolean offerInsurance;
+  private final boolean offerSurrender;
+  private final BigDecimal minBet;
+  private final boolean doubleDownAllowed;
+  private final boolean splitsAllowed;
+  private final boolean splitOnValue;
+
+  /**
+   * Creates a RuleSet. Each parameter matches a setting of {@link GameRules}.
+   *
+   * @param numberOfDecks     in the shoe, between {@link GameRules#MIN_NUMBER_OF_DECKS} and {@link
+   *                          GameRules#MAX_NUMBER_OF_DECKS}
+   * @param penetration       fraction of the shoe dealt before it is replaced, greater than 0 and
+   *                          at most 1
+   * @param dealerHitsSoft17  {@code true} if the dealer hits a soft 17
+   * @param offerInsurance    {@code true} if insurance is offered
+   * @param offerSurrender    {@code true} if the player may surrender
+   * @param minBet            the minimum amount that can be wagered
+   * @param doubleDownAllowed {@code true} if the player may double down
+   * @param splitsAllowed     {@code true} if the player may split a pair
+   * @param splitOnValue      {@code true} if cards of equal value, rather than rank, may be split
+   * @throws IllegalArgumentException if the number of decks, the penetration or the minimum bet is
+   *                                  out of range
+   * @throws NullPointerException     if minBet is null
+   */
+  public RuleSet(final int numberOfDecks, final double penetration,
+      final boolean dealerHitsSoft17, final boolean offerInsurance, final boolean offerSurrender,
+      final BigDecimal minBet, final boolean doubleDownAllowed, final boolean splitsAllowed,
+      final boolean splitOnValue) {
+    if (numberOfDecks < GameRules.MIN_NUMBER_OF_DECKS
+        || numberOfDecks > GameRules.MAX_NUMBER_OF_DECKS) {
+      throw new IllegalArgumentException("Number of decks out of range: " + numberOfDecks);
+    }
+    if (!(penetration > 0 && penetration <= 1)) {
+      throw new IllegalArgumentException("Penetration must be within (0, 1]: " + penetration);
+    }
+    Objects.requireNonNull(minBet, "The minimum bet cannot be null");
+    if (minBet.signum() <= 0) {
+      throw new IllegalArgumentException("The minimum bet must be positive: " + minBet);
+    }
+    this.numberOfDecks = numberOfDecks;
+    this.penetration = penetration;
+    this.dealerHitsSoft17 = dealerHitsSoft17;
+    this.offerInsurance = offerInsurance;
+    this.offerSurrender = offerSurrender;
+    this.minBet = minBet;
+    this.doubleDownAllowed = doubleDownAllowed;
+    this.splitsAllowed = splitsAllowed;
+    this.splitOnValue = splitOnValue;
+  }
+
+  /**
+   * Takes a snapshot of the current {@link GameRules}, using the {@link
+   * GameRules#DEFAULT_NUMBER_OF_DECKS} and the {@link GameRules#DEFAULT_PENETRATION}.
+   *
+   * @return the current rules
+   */
+  public static RuleSet fromGameRules() {
+    return fromGameRules(GameRules.DEFAULT_NUMBER_OF_DECKS);
+  }
+
+  /**
+   * Takes a snapshot of the current {@link GameRules}, using the given number of decks and the
+   * {@link GameRules#DEFAULT_PENETRATION}.
+   *
+   * @param numberOfDecks in the shoe
+   * @return the current rules
+   */
+  public static RuleSet fromGameRules(final int numberOfDecks) {
+    return new RuleSet(numberOfDecks, GameRules.DEFAULT_PENETRATION,
+        GameRules.DEALER_HITS_SOFT_17, GameRules.OFFER_INSURANCE, GameRules.OFFER_SURRENDER,
+        GameRules.MIN_BET, GameRules.DOUBLE_DOWN_ALLOWED, GameRules.SPLITS_ALLOWED,
+        GameRules.SPLIT_ON_VALUE);
+  }
+
+  /**
+   * Returns the number of decks in the shoe.
+   *
+   * @return the number of decks
+   */
+  public int getNumberOfDecks() {
+    return numberOfDecks;
+  }
+
+  /**
+   * Returns the fraction of the shoe dealt before it is replaced.
+   *
+   * @return the penetration
+   */
+  public double getPenetration() {
+    return penetration;
+  }
+
+  /**
+   * Returns {@code true} if the dealer hits a soft 17.
+   *
+   * @return {@code true} if the dealer hits a soft 17
+   * @see GameRules#DEALER_HITS_SOFT_17
+   */
+  public boolean dealerHitsSoft17() {
+    return dealerHitsSoft17;
+  }
+
+  /**
+   * Returns {@code true} if insurance is offered.
+   *
+   * @return {@code true} if insurance is offered
+   * @see GameRules#OFFER_INSURANCE
+   */
+  public boolean isOfferInsurance() {
+    return offerInsurance;
+  }
+
+  /**
+   * Returns {@code true} if the player may surrender.
+   *
+   * @return {@code true} if surrender is offered
+   * @see GameRules#OFFER_SURRENDER
+   */
+  public boolean isOfferSurrender() {
+    return offerSurrender;
+  }
+
+  /**
+   * Returns the minimum amount that can be wagered.
+   *
+   * @return the minimum bet
+   * @see GameRules#MIN_BET
+   */
+  public BigDecimal getMinBet() {
+    return minBet;
+  }
+
+  /**
+   * Returns {@code true} if the player may double down.
+   *
+   * @return {@code true} if doubling down is allowed
+   * @see GameRules#DOUBLE_DOWN_ALLOWED
+   */
+  public boolean isDoubleDownAllowed() {
+    return doubleDownAllowed;
+  }
+
+  /**
+   * Returns {@code true} if the player may split a pair.
+   *
+   * @return {@code true} if splitting is allowed
+   * @see GameRules#SPLITS_ALLOWED
+   */
+  public boolean isSplitsAllowed() {
+    return splitsAllowed;
+  }
+
+  /**
+   * Returns {@code true} if cards of equal value, rather than equal rank, may be split.
+   *
+   * @return {@code true} if pairs are split on value
+   * @see GameRules#SPLIT_ON_VALUE
+   */
+  public boolean isSplitOnValue() {
+    return splitOnValue;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RuleSet)) {
+      return false;
+    }
+    RuleSet that = (RuleSet) o;
+    return numberOfDecks == that.numberOfDecks
+        && Double.compare(penetration, that.penetration) == 0
+        && dealerHitsSoft17 == that.dealerHitsSoft17
+        && offerInsurance == that.offerInsurance
+        && offerSurrender == that.offerSurrender
+        && minBet.compareTo(that.minBet) == 0
+        && doubleDownAllowed == that.doubleDownAllowed
+        && splitsAllowed == that.splitsAllowed
+        && splitOnValue == that.splitOnValue;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(numberOfDecks, penetration, dealerHitsSoft17, offerInsurance,
+        offerSurrender, minBet.stripTrailingZeros(), doubleDownAllowed, splitsAllowed,
+        splitOnValue);
+  }
+
+  @Override
+  public String toString() {
+    return "decks=" + numberOfDecks + ", penetration=" + penetration + ", H17=" + dealerHitsSoft17
+        + ", insurance=" + offerInsurance + ", surrender=" + offerSurrender + ", minBet=" + minBet
+        + ", double=" + doubleDownAllowed + ", split=" + splitsAllowed + ", splitOnValue="
+        + splitOnValue;
+  }
+}
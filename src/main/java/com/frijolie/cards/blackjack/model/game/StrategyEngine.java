@@ -0,0 +1,235 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import com.frijolie.cards.blackjack.model.cards.Card;
+import com.frijolie.cards.blackjack.model.cards.Hand;
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * StrategyEngine answers which {@link Action} basic strategy recommends for a hand.
+ *
+ * <p>The recommendations are those of {@code BlackjackStrategyTable.html}, shown by the hint
+ * feature, for a dealer who stands on soft 17. A second variant adjusts them for a dealer who hits
+ * soft 17. Each variant has a hard, a soft and a pair table. Every table is a {@code byte[]} with
+ * one row per player total and one column per dealer up card, filled once when the class is
+ * loaded.
+ *
+ * <p>A decision is a single lookup keyed by the {@link HandStateTable} state of the hand. Some
+ * cells recommend a move only when it is allowed, for example "double down, otherwise hit". These
+ * are resolved against the moves allowed for the hand. No objects are created.
+ *
+ * @see Action
+ * @see HandStateTable
+ * @see RuleSet
+ */
+public final class StrategyEngine {
+
+  private static final byte HIT = 0;
+  private static final byte STAND = 1;
+  private static final byte DOUBLE_OR_HIT = 2;
+  private static final byte DOUBLE_OR_STAND = 3;
+  private static final byte SPLIT = 4;
+  private static final byte SURRENDER_OR_HIT = 5;
+  private static final byte SURRENDER_OR_STAND = 6;
+
+  private static final int COLUMNS = ShoeComposition.SLOTS;
+  private static final int MIN_HARD = 4;
+  private static final int MIN_SOFT = 12;
+  private static final int STANDS_SOFT_17 = 0;
+  private static final int HITS_SOFT_17 = 1;
+
+  /*
+   * Rows are player totals, columns are the dealer up card 2 through Ace.
+   */
+  private static final String[] HARD_ROWS = {
+      /*  4 */ "H  H  H  H  H  H  H  H  H  H",
+      /*  5 */ "H  H  H  H  H  H  H  H  H  H",
+      /*  6 */ "H  H  H  H  H  H  H  H  H  H",
+      /*  7 */ "H  H  H  H  H  H  H  H  H  H",
+      /*  8 */ "H  H  H  H  H  H  H  H  H  H",
+      /*  9 */ "H  D  D  D  D  H  H  H  H  H",
+      /* 10 */ "D  D  D  D  D  D  D  D  H  H",
+      /* 11 */ "D  D  D  D  D  D  D  D  D  H",
+      /* 12 */ "H  H  S  S  S  H  H  H  H  H",
+      /* 13 */ "S  S  S  S  S  H  H  H  H  H",
+      /* 14 */ "S  S  S  S  S  H  H  H  H  H",
+      /* 15 */ "S  S  S  S  S  H  H  H  RH H",
+      /* 16 */ "S  S  S  S  S  H  H  RH RS RH",
+      /* 17 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 18 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 19 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 20 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 21 */ "S  S  S  S  S  S  S  S  S  S"
+  };
+
+  private static final String[] SOFT_ROWS = {
+      /* 12 */ "H  H  H  H  H  H  H  H  H  H",
+      /* 13 */ "H  H  H  D  D  H  H  H  H  H",
+      /* 14 */ "H  H  H  D  D  H  H  H  H  H",
+      /* 15 */ "H  H  D  D  D  H  H  H  H  H",
+      /* 16 */ "H  H  D  D  D  H  H  H  H  H",
+      /* 17 */ "H  D  D  D  D  H  H  H  H  H",
+      /* 18 */ "S  DS DS DS DS S  S  H  H  H",
+      /* 19 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 20 */ "S  S  S  S  S  S  S  S  S  S",
+      /* 21 */ "S  S  S  S  S  S  S  S  S  S"
+  };
+
+  /*
+   * Rows are the value of the paired cards, 2 through Ace. A pair which is not split is played by
+   * its total.
+   */
+  private static final String[] PAIR_ROWS = {
+      /*  2 */ "P  P  P  P  P  P  -  -  -  -",
+      /*  3 */ "P  P  P  P  P  P  -  -  -  -",
+      /*  4 */ "-  -  -  P  P  -  -  -  -  -",
+      /*  5 */ "-  -  -  -  -  -  -  -  -  -",
+      /*  6 */ "P  P  P  P  P  -  -  -  -  -",
+      /*  7 */ "P  P  P  P  P  P  -  -  -  -",
+      /*  8 */ "P  P  P  P  P  P  P  P  P  P",
+      /*  9 */ "P  P  P  P  P  -  P  P  -  -",
+      /* 10 */ "-  -  -  -  -  -  -  -  -  -",
+      /*  A */ "P  P  P  P  P  P  P  P  P  P"
+  };
+
+  private static final byte[][] HARD = new byte[2][];
+  private static final byte[][] SOFT = new byte[2][];
+  private static final byte[][] PAIR = new byte[2][];
+
+  static {
+    HARD[STANDS_SOFT_17] = parse(HARD_ROWS);
+    SOFT[STANDS_SOFT_17] = parse(SOFT_ROWS);
+    PAIR[STANDS_SOFT_17] = parse(PAIR_ROWS);
+
+    HARD[HITS_SOFT_17] = HARD[STANDS_SOFT_17].clone();
+    SOFT[HITS_SOFT_17] = SOFT[STANDS_SOFT_17].clone();
+    PAIR[HITS_SOFT_17] = PAIR[STANDS_SOFT_17].clone();
+    HARD[HITS_SOFT_17][index(11 - MIN_HARD, 11)] = DOUBLE_OR_HIT;
+    HARD[HITS_SOFT_17][index(15 - MIN_HARD, 11)] = SURRENDER_OR_HIT;
+    HARD[HITS_SOFT_17][index(17 - MIN_HARD, 11)] = SURRENDER_OR_STAND;
+    SOFT[HITS_SOFT_17][index(18 - MIN_SOFT, 2)] = DOUBLE_OR_STAND;
+    SOFT[HITS_SOFT_17][index(19 - MIN_SOFT, 6)] = DOUBLE_OR_STAND;
+  }
+
+  private StrategyEngine() {
+  }
+
+  /**
+   * Returns the action basic strategy recommends for the given hand. The moves allowed for the
+   * hand are taken from the {@link RuleSet}: a hand may double down with two cards totalling 9, 10
+   * or 11, may split two cards of the same rank, or value when splitting on value, and may
+   * surrender with two cards.
+   *
+   * @param hand         of the player
+   * @param dealerUpCard the dealer's face up card
+   * @param rules        of the table
+   * @return the recommended action
+   * @throws NullPointerException if an argument is null
+   */
+  public static Action decide(final Hand hand, final Card dealerUpCard, final RuleSet rules) {
+    Objects.requireNonNull(hand, "The hand cannot be null");
+    Objects.requireNonNull(dealerUpCard, "The dealer up card cannot be null");
+    Objects.requireNonNull(rules, "The rules cannot be null");
+    final boolean twoCards = hand.hasTwoCards();
+    final int score = hand.getScore();
+    final boolean canDouble = rules.isDoubleDownAllowed() && twoCards && score > 8 && score < 12;
+    boolean canSplit = false;
+    if (rules.isSplitsAllowed() && twoCards) {
+      final List<Card> cards = hand.getCards();
+      canSplit = rules.isSplitOnValue() ? cards.get(0).sameValue(cards.get(1))
+          : cards.get(0).sameRank(cards.get(1));
+    }
+    return decide(hand.getStateId(), dealerUpCard.getValue(), canDouble, canSplit,
+        rules.isOfferSurrender() && twoCards, rules.dealerHitsSoft17());
+  }
+
+  /**
+   * Returns the action basic strategy recommends for a hand in the given {@link HandStateTable}
+   * state. Only an allowed move is returned.
+   *
+   * @param state            of the hand
+   * @param dealerUpValue    value of the dealer's face up card, between 2 and 11
+   * @param canDouble        {@code true} if the hand may double down
+   * @param canSplit         {@code true} if the hand may be split
+   * @param canSurrender     {@code true} if the hand may be surrendered
+   * @param dealerHitsSoft17 {@code true} if the dealer hits a soft 17
+   * @return the recommended action
+   */
+  public static Action decide(final int state, final int dealerUpValue, final boolean canDouble,
+      final boolean canSplit, final boolean canSurrender, final boolean dealerHitsSoft17) {
+    final int variant = dealerHitsSoft17 ? HITS_SOFT_17 : STANDS_SOFT_17;
+    if (canSplit && HandStateTable.isPair(state)
+        && PAIR[variant][index(HandStateTable.pairValue(state) - ShoeComposition.MIN_VALUE,
+        dealerUpValue)] == SPLIT) {
+      return Action.SPLIT;
+    }
+    final int total = HandStateTable.total(state);
+    if (total >= GameRules.MAX_SCORE) {
+      return Action.STAND;
+    }
+    final byte play;
+    if (HandStateTable.isSoft(state)) {
+      if (total < MIN_SOFT) {
+        return Action.HIT;
+      }
+      play = SOFT[variant][index(total - MIN_SOFT, dealerUpValue)];
+    } else {
+      if (total < MIN_HARD) {
+        return Action.HIT;
+      }
+      play = HARD[variant][index(total - MIN_HARD, dealerUpValue)];
+    }
+    switch (play) {
+      case STAND:
+        return Action.STAND;
+      case DOUBLE_OR_HIT:
+        return canDouble ? Action.DOUBLE_DOWN : Action.HIT;
+      case DOUBLE_OR_STAND:
+        return canDouble ? Action.DOUBLE_DOWN : Action.STAND;
+      case SURRENDER_OR_HIT:
+        return canSurrender ? Action.SURRENDER : Action.HIT;
+      case SURRENDER_OR_STAND:
+        return canSurrender ? Action.SURRENDER : Action.STAND;
+      default:
+        return Action.HIT;
+    }
+  }
+
+  private static int index(final int row, final int dealerUpValue) {
+    return row * COLUMNS + dealerUpValue - ShoeComposition.MIN_VALUE;
+  }
+
+  private static byte[] parse(final String[] rows) {
+    final byte[] table = new byte[rows.length * COLUMNS];
+    for (int row = 0; row < rows.length; row++) {
+      final String[] cells = rows[row].trim().split("\\s+");
+      for (int column = 0; column < COLUMNS; column++) {
+        table[row * COLUMNS + column] = code(cells[column]);
+      }
+    }
+    return table;
+  }
+
+  private static byte code(final String cell) {
+    switch (cell) {
+      case "S":
+        return STAND;
+      case "D":
+        return DOUBLE_OR_HIT;
+      case "DS":
+        return DOUBLE_OR_STAND;
+      case "P":
+        return SPLIT;
+      case "RH":
+        return SURRENDER_OR_HIT;
+      case "RS":
+        return SURRENDER_OR_STAND;
+      default:
+        return HIT;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import java.util.Arrays;
+
+/**
+ * TranspositionTable is a fixed size cache of {@code double} results, keyed by a packed {@code
+ * long} and a small {@code int} tag.
+ *
+ * <p>Each key maps to a single slot, and storing a result replaces whatever the slot held before.
+ * The table therefore never grows, and neither a lookup nor a store creates an object. A slot holds
+ * {@code width} results, so one key may cache several related values.
+ *
+ * <p>A tag of 0 marks an empty slot and must not be used.
+ *
+ * @see DealerOutcomeCalculator
+ * @see ExpectedValueSolver
+ */
+final class TranspositionTable {
+
+  private final long[] keys;
+  private final int[] tags;
+  private final double[] values;
+  private final int width;
+  private final int mask;
+
+  /**
+   * Creates a table holding at least the given number of slots, rounded up to a power of two.
+   *
+   * @param capacity the number of slots
+   * @param width    the number of results held by each slot
+   * @throws IllegalArgumentException if capacity or width is less than 1
+   */
+  TranspositionTable(final int capacity, final int width) {
+    if (capacity < 1 || width < 1) {
+      throw new IllegalArgumentException("Capacity and width must be at least 1: " + capacity
+          + ", " + width);
+    }
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    keys = new long[size];
+    tags = new int[size];
+    values = new double[size * width];
+    this.width = width;
+    this.mask = size - 1;
+  }
+
+  /**
+   * Returns the slot the given key and tag map to.
+   *
+   * @param key a packed key
+   * @param tag distinguishes keys which share a packed value, never 0
+   * @return the slot
+   */
+  int slot(final long key, final int tag) {
+    long hash = key * 0x9E3779B97F4A7C15L + tag * 0xC2B2AE3D27D4EB4FL;
+    hash ^= hash >>> 29;
+    return (int) hash & mask;
+  }
+
+  /**
+   * Returns {@code true} if the slot holds the results of the given key and tag.
+   *
+   * @param slot returned by {@link #slot(long, int)}
+   * @param key  a packed key
+   * @param tag  the tag of the key
+   * @return {@code true} if the results are cached
+   */
+  boolean contains(final int slot, final long key, final int tag) {
+    return tags[slot] == tag && keys[slot] == key;
+  }
+
+  /**
+   * Marks the slot as holding the results of the given key and tag. The results are written to
+   * {@link #values()} starting at {@link #offset(int)}.
+   *
+   * @param slot returned by {@link #slot(long, int)}
+   * @param key  a packed key
+   * @param tag  the tag of the key
+   */
+  void store(final int slot, final long key, final int tag) {
+    keys[slot] = key;
+    tags[slot] = tag;
+  }
+
+  /**
+   * Empties every slot.
+   */
+  void clear() {
+    Arrays.fill(tags, 0);
+  }
+
+  /**
+   * Returns the index of the first result of the slot in {@link #values()}.
+   *
+   * @param slot returned by {@link #slot(long, int)}
+   * @return the offset of the slot
+   */
+  int offset(final int slot) {
+    return slot * width;
+  }
+
+  /**
+   * Returns the results of every slot.
+   *
+   * @return the backing array of results
+   */
+  double[] values() {
+    return values;
+  }
+}
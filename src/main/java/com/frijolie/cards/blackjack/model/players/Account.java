@@ -0,0 +1,108 @@
+package com.frijolie.cards.blackjack.model.players;
+
+/**
+ * An Account holds money in whole cents for a player, and settles the wagers the player makes.
+ *
+ * <p>A wager is debited when it is placed, and the settling methods credit back the wager along
+ * with any winnings. A blackjack pays 3:2 and insurance pays 2:1, as {@link
+ * Ledger#blackjackWinnings(long)} and {@link Ledger#insuranceCost(long)} describe. Implementations
+ * must be safe to use from several threads, and a debit must never overdraw the account.
+ *
+ * @see Ledger
+ * @see Wallet
+ */
+public interface Account {
+
+  /**
+   * Returns the money available to the player.
+   *
+   * @return the balance in cents
+   */
+  long getBalance();
+
+  /**
+   * Adds an amount to the account.
+   *
+   * @param cents to add
+   * @throws IllegalArgumentException if the amount is negative
+   */
+  void credit(long cents);
+
+  /**
+   * Takes an amount from the account if the account covers it, otherwise takes nothing.
+   *
+   * @param cents to take
+   * @return {@code true} if the amount was taken
+   * @throws IllegalArgumentException if the amount is negative
+   */
+  boolean debit(long cents);
+
+  /**
+   * Settles a winning wager, crediting the wager and even money.
+   *
+   * @param wager in cents, debited when it was placed
+   * @return the amount credited
+   */
+  default long payWin(final long wager) {
+    final long payout = Math.multiplyExact(wager, 2);
+    credit(payout);
+    return payout;
+  }
+
+  /**
+   * Settles a blackjack, crediting the wager and 3:2.
+   *
+   * @param wager in cents, debited when it was placed
+   * @return the amount credited
+   */
+  default long payBlackjack(final long wager) {
+    final long payout = Math.addExact(wager, Ledger.blackjackWinnings(wager));
+    credit(payout);
+    return payout;
+  }
+
+  /**
+   * Settles a pushed wager, crediting the wager.
+   *
+   * @param wager in cents, debited when it was placed
+   * @return the amount credited
+   */
+  default long payPush(final long wager) {
+    credit(wager);
+    return wager;
+  }
+
+  /**
+   * Settles a surrendered wager, crediting half the wager rounded down to the cent.
+   *
+   * @param wager in cents, debited when it was placed
+   * @return the amount credited
+   */
+  default long paySurrender(final long wager) {
+    final long refund = wager / 2;
+    credit(refund);
+    return refund;
+  }
+
+  /**
+   * Places the insurance side bet on a wager, debiting {@link Ledger#insuranceCost(long)}.
+   *
+   * @param wager in cents, which is being insured
+   * @return {@code true} if the account covered the insurance
+   */
+  default boolean buyInsurance(final long wager) {
+    return debit(Ledger.insuranceCost(wager));
+  }
+
+  /**
+   * Settles insurance when the dealer has blackjack, crediting the side bet and 2:1.
+   *
+   * @param wager in cents, which was insured
+   * @return the amount credited
+   */
+  default long payInsurance(final long wager) {
+    final long payout = Math.multiplyExact(Ledger.insuranceCost(wager), 3);
+    credit(payout);
+    return payout;
+  }
+}
@@ -0,0 +1,46 @@
+package com.frijolie.cards.blackjack.model.players;
+
+/**
+ * An enumeration of every decision a player can make about a hand. Each constant matches one of the
+ * moves in {@link Player} or {@link HumanPlayerActions}.
+ *
+ * @see Player
+ * @see HumanPlayerActions
+ */
+public enum Action {
+
+  /**
+   * Draw another card.
+   *
+   * @see Player#hit()
+   */
+  HIT,
+
+  /**
+   * Take no more cards.
+   *
+   * @see Player#stand()
+   */
+  STAND,
+
+  /**
+   * Double the bet, draw exactly one more card, then stand.
+   *
+   * @see HumanPlayerActions#doubleDown()
+   */
+  DOUBLE_DOWN,
+
+  /**
+   * Split a pair into two hands, each with its own bet.
+   *
+   * @see HumanPlayerActions#split()
+   */
+  SPLIT,
+
+  /**
+   * Forfeit half the bet and end the hand.
+   *
+   * @see HumanPlayerActions#surrender()
+   */
+  SURRENDER
+}
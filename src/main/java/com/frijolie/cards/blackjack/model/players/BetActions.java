@@ -4,8 +4,8 @@ package com.frijolie.cards.blackjack.model.players;
  * This interface ensures behavior only applicable to those players whom may place wagers (bets) in
  * the game. This would only apply to the Human players and not the dealer.
  *
- * <p>I am aware of BigDecimals in Java. However, I'm less concerned with the precision of currency
- * math in this simple game. Perhaps I'll enhance this to include BigDecimal math a later date.
+ * <p>Amounts are given in dollars and rounded to the nearest cent. The balance itself is kept
+ * exactly, in cents, by a {@link Ledger}.
  */
 interface BetActions {
 
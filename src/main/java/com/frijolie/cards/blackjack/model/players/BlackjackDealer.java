@@ -3,8 +3,12 @@ package com.frijolie.cards.blackjack.model.players;
 import com.frijolie.cards.blackjack.model.cards.BlackjackHand;
 import com.frijolie.cards.blackjack.model.cards.Hand;
 import com.frijolie.cards.blackjack.model.cards.HandState;
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
 import com.frijolie.cards.blackjack.model.game.Game;
 import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.util.Objects;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -14,12 +18,27 @@ public class BlackjackDealer implements Player {
   private final Hand hand;
   private BooleanProperty isActive;
   private Game game;
+  private final RuleSet rules;
 
   /**
-   * Default no-arg constructor.
+   * Default no-arg constructor. The rules are a snapshot of {@link GameRules} taken when the
+   * dealer is created.
+   *
+   * @see RuleSet#fromGameRules()
    */
   public BlackjackDealer() {
-    hand = new BlackjackHand();
+    this(RuleSet.fromGameRules());
+  }
+
+  /**
+   * Overloaded constructor. The rules are read from the given {@link RuleSet}.
+   *
+   * @param rules of the table the dealer deals at
+   * @throws NullPointerException if rules is null
+   */
+  public BlackjackDealer(final RuleSet rules) {
+    this.rules = Objects.requireNonNull(rules, "You must pass a non-null RuleSet");
+    hand = new BlackjackHand(rules);
     isActive = new SimpleBooleanProperty(true);
   }
 
@@ -34,6 +53,12 @@ public class BlackjackDealer implements Player {
     hand.setHandState(HandState.INACTIVE);
   }
 
+  @Override
+  public final void reset() {
+    hand.reset();
+    isActive.set(true);
+  }
+
   @Override
   public final Hand getHand() {
     return hand;
@@ -60,24 +85,16 @@ public class BlackjackDealer implements Player {
 
   /**
    * Contains the logic for how the Dealer takes their turn. According to the rules of Blackjack,
-   * the dealer must hit any score below 17. Also, if {@link GameRules#DEALER_HITS_SOFT_17} is
-   * {@code true} the dealer may also have to {@link #hit()}. Otherwise, the dealer will {@link
+   * the dealer must hit any score below 17. Also, if the dealer hits a soft 17, as set by the
+   * {@link RuleSet}, the dealer may also have to {@link #hit()}. Otherwise, the dealer will {@link
    * #stand()}
+   *
+   * <p>Whether to hit is read from the {@link HandStateTable} using the state of the hand.
    */
   public final void takeTurn() {
-    int score = hand.getScore();
     if (isActive()) {
-      while (score < 18) {
-        if (score == 17) {
-          if (GameRules.DEALER_HITS_SOFT_17 && hand.isSoft()) {
-            hit();
-          } else {
-            break;
-          }
-        } else {
-          hit();
-        }
-        score = hand.getScore();
+      while (HandStateTable.dealerMustHit(hand.getStateId(), rules.dealerHitsSoft17())) {
+        hit();
       }
       stand();
     }
@@ -6,8 +6,9 @@ import com.frijolie.cards.blackjack.model.cards.Hand;
 import com.frijolie.cards.blackjack.model.cards.HandState;
 import com.frijolie.cards.blackjack.model.game.Game;
 import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
 
-import java.math.BigDecimal;
+import java.util.Objects;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -19,26 +20,55 @@ import javafx.beans.property.SimpleBooleanProperty;
  * may continue playing their turn until their hand {@link Hand#isBust}, the player {@link
  * #isBankrupt}, or they have elected to stand.
  *
- * <p>The player will begin the game with $1,000 cash to spend.
+ * <p>The player will begin the game with $1,000 cash to spend. The cash is kept in an {@link
+ * Account}, either a {@link Ledger} of its own or a {@link TableWallet} drawing on a {@link Wallet}
+ * shared with the players of other tables.
  *
  * @see GameRules#STARTING_CASH
  */
 public class BlackjackPlayer implements HumanPlayerActions {
 
   private final BlackjackHand hand;
-  private final BigDecimal cash;
+  private final Account account;
   private BooleanProperty isBankrupt;
   private BooleanProperty isActive;
   private Game game;
 
   /**
-   * Default no-arg constructor.
+   * Default no-arg constructor. The rules of the hand are a snapshot of {@link GameRules} taken
+   * when the player is created.
    */
   public BlackjackPlayer() {
-    hand = new BlackjackHand();
+    this(RuleSet.fromGameRules());
+  }
+
+  /**
+   * Overloaded constructor. The rules of the hand are read from the given {@link RuleSet}.
+   *
+   * @param rules of the table the player sits at
+   * @throws NullPointerException if rules is null
+   */
+  public BlackjackPlayer(final RuleSet rules) {
+    this(rules, new Ledger(Ledger.toCents(GameRules.STARTING_CASH)));
+  }
+
+  /**
+   * Overloaded constructor. The rules of the hand are read from the given {@link RuleSet}, and the
+   * cash of the player is kept in the given {@link Account}, which other players may share.
+   *
+   * @param rules   of the table the player sits at
+   * @param account holding the cash of the player
+   * @throws NullPointerException if rules or account is null
+   */
+  public BlackjackPlayer(final RuleSet rules, final Account account) {
+    this(new BlackjackHand(rules), account);
+  }
+
+  private BlackjackPlayer(final BlackjackHand hand, final Account account) {
+    this.hand = hand;
+    this.account = Objects.requireNonNull(account, "The account cannot be null");
     isBankrupt = new SimpleBooleanProperty(false);
     isActive = new SimpleBooleanProperty(true);
-    cash = GameRules.STARTING_CASH;
     isActiveProperty().addListener((observable, oldValue, isActive) -> {
       if (!isActive) {
         hand.setHandState(HandState.INACTIVE);
@@ -115,6 +145,16 @@ public class BlackjackPlayer implements HumanPlayerActions {
     hand.setHandState(HandState.INACTIVE);
   }
 
+  /**
+   * Prepares the player for another round. The hand is reset and the player becomes active again,
+   * unless the player is bankrupt.
+   */
+  @Override
+  public final void reset() {
+    hand.reset();
+    isActive.set(!isBankrupt());
+  }
+
   @Override
   public final Hand getHand() {
     return hand;
@@ -136,7 +176,16 @@ public class BlackjackPlayer implements HumanPlayerActions {
 
   @Override
   public final double getCash() {
-    return cash.doubleValue();
+    return (double) account.getBalance() / Ledger.CENTS_PER_DOLLAR;
+  }
+
+  /**
+   * Returns the account which holds the cash of the player.
+   *
+   * @return the account of the player
+   */
+  public final Account getAccount() {
+    return account;
   }
 
   @Override
@@ -155,14 +204,20 @@ public class BlackjackPlayer implements HumanPlayerActions {
 
   @Override
   public final void addCash(double amount) {
-    cash.add(convert(amount));
+    account.credit(Ledger.toCents(amount));
   }
 
+  /**
+   * {@inheritDoc} The player becomes bankrupt once no cash remains.
+   *
+   * @throws IllegalStateException if the player does not have the amount
+   */
   @Override
   public final void removeCash(double amount) {
-    cash.subtract(convert(amount));
-    int result = cash.compareTo(BigDecimal.valueOf(0));
-    if (result <= 0) {
+    if (!account.debit(Ledger.toCents(amount))) {
+      throw new IllegalStateException(String.format("The player cannot cover $%.2f", amount));
+    }
+    if (account.getBalance() <= 0) {
       isBankrupt.set(true);
       isActive.set(false);
     }
@@ -172,14 +227,4 @@ public class BlackjackPlayer implements HumanPlayerActions {
   public final void joinGame(Game game) {
     this.game = game;
   }
-
-  /**
-   * Converts a double into a BigDecimal. Necessary for precision calculations.
-   *
-   * @param amount to be converted
-   * @return a BigDecimal equal to the param
-   */
-  private BigDecimal convert(double amount) {
-    return BigDecimal.valueOf(amount);
-  }
 }
\ No newline at end of file
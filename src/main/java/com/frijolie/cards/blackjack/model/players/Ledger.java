@@ -0,0 +1,135 @@
+package com.frijolie.cards.blackjack.model.players;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ledger holds the balance of a player's account as a whole number of cents.
+ *
+ * <p>The balance is a single {@link AtomicLong}, so several tables may share an account and
+ * update it from their own threads without a lock. A debit never takes the balance below zero:
+ * either the whole amount is taken or nothing is. Wagers, payouts and balances are plain
+ * {@code long} cents, so settling a round is exact and creates no objects. Arithmetic which would
+ * overflow throws an {@link ArithmeticException} rather than wrapping.
+ *
+ * <p>A blackjack pays 3:2, rounded down to the cent. The payout is fixed in whole cents rather
+ * than read from the {@code double} payout of the game, so that it stays exact. Insurance costs
+ * half the wager, rounded down, and pays 2:1.
+ *
+ * @see Account
+ * @see BlackjackPlayer#getAccount()
+ */
+public final class Ledger implements Account {
+
+  /**
+   * The number of cents in a dollar.
+   */
+  public static final long CENTS_PER_DOLLAR = 100;
+
+  private final AtomicLong balance;
+
+  /**
+   * Creates a ledger with an opening balance.
+   *
+   * @param cents the opening balance
+   * @throws IllegalArgumentException if the opening balance is negative
+   */
+  public Ledger(final long cents) {
+    balance = new AtomicLong(requirePositiveOrZero(cents));
+  }
+
+  /**
+   * Converts dollars to cents.
+   *
+   * @param dollars to convert, with no more than two decimal places
+   * @return the amount in cents
+   * @throws ArithmeticException if the amount has fractions of a cent or does not fit a long
+   */
+  public static long toCents(final BigDecimal dollars) {
+    return dollars.movePointRight(2).longValueExact();
+  }
+
+  /**
+   * Converts dollars to cents, rounding to the nearest cent.
+   *
+   * @param dollars to convert
+   * @return the amount in cents
+   */
+  public static long toCents(final double dollars) {
+    return Math.round(dollars * CENTS_PER_DOLLAR);
+  }
+
+  /**
+   * Converts cents to dollars.
+   *
+   * @param cents to convert
+   * @return the amount in dollars
+   */
+  public static BigDecimal toDollars(final long cents) {
+    return BigDecimal.valueOf(cents, 2);
+  }
+
+  /**
+   * Returns the winnings of a blackjack on the given wager, 3:2 rounded down to the cent.
+   *
+   * @param wager in cents
+   * @return the winnings, not including the wager
+   */
+  public static long blackjackWinnings(final long wager) {
+    return Math.multiplyExact(wager, 3) / 2;
+  }
+
+  /**
+   * Returns the cost of insuring the given wager, half the wager rounded down to the cent.
+   *
+   * @param wager in cents
+   * @return the insurance side bet
+   */
+  public static long insuranceCost(final long wager) {
+    return wager / 2;
+  }
+
+  @Override
+  public long getBalance() {
+    return balance.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ArithmeticException if the balance would overflow
+   */
+  @Override
+  public void credit(final long cents) {
+    requirePositiveOrZero(cents);
+    long current;
+    do {
+      current = balance.get();
+    } while (!balance.compareAndSet(current, Math.addExact(current, cents)));
+  }
+
+  @Override
+  public boolean debit(final long cents) {
+    requirePositiveOrZero(cents);
+    long current;
+    do {
+      current = balance.get();
+      if (current < cents) {
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - cents));
+    return true;
+  }
+
+  static long requirePositiveOrZero(final long cents) {
+    if (cents < 0) {
+      throw new IllegalArgumentException("An amount cannot be negative: " + cents);
+    }
+    return cents;
+  }
+
+  @Override
+  public String toString() {
+    return "Ledger $" + toDollars(getBalance());
+  }
+}
@@ -20,6 +20,12 @@ public interface Player {
    */
   void stand();
 
+  /**
+   * Prepares the Player for another round. The {@link Hand} is reset and the Player becomes active
+   * again. The same Hand instance is kept.
+   */
+  void reset();
+
   /**
    * Returns a reference to the player {@link Hand}.
    *
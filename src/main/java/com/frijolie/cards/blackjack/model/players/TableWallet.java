@@ -0,0 +1,117 @@
+package com.frijolie.cards.blackjack.model.players;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TableWallet is the {@link Account} a table draws on from a {@link Wallet}, one stripe of the
+ * wallet.
+ *
+ * <p>Wagers are debited from the float of the table and winnings credited to it, each a single
+ * compare and set on a counter no other table touches, and an add to the total of the wallet. The
+ * central ledger of the wallet is only visited when the float runs short or grows beyond two
+ * batches, and the other tables only when the central ledger cannot cover a wager.
+ *
+ * @see Wallet#openTable()
+ */
+public final class TableWallet implements Account {
+
+  private final Wallet wallet;
+  private final AtomicLong local = new AtomicLong();
+
+  TableWallet(final Wallet wallet) {
+    this.wallet = wallet;
+  }
+
+  /**
+   * Returns the money available to the table, which is the whole balance of the wallet, as the
+   * floats of the other tables are reclaimed before a wager is refused. Reading it does not visit
+   * the central ledger or the other tables.
+   *
+   * @return the balance in cents
+   * @see Wallet#getBalance()
+   */
+  @Override
+  public long getBalance() {
+    return wallet.getBalance();
+  }
+
+  /**
+   * Returns the money held at the table.
+   *
+   * @return the float in cents
+   */
+  public long getFloat() {
+    return local.get();
+  }
+
+  /**
+   * {@inheritDoc} A float which grows beyond two batches returns all but one batch to the central
+   * ledger.
+   */
+  @Override
+  public void credit(final long cents) {
+    Ledger.requirePositiveOrZero(cents);
+    wallet.count(cents);
+    long current;
+    long updated;
+    do {
+      current = local.get();
+      updated = Math.addExact(current, cents);
+    } while (!local.compareAndSet(current, updated));
+    final long batch = wallet.getBatch();
+    if (updated > 2 * batch && local.compareAndSet(updated, batch)) {
+      wallet.central().credit(updated - batch);
+    }
+  }
+
+  /**
+   * {@inheritDoc} A float which cannot cover the amount reserves the shortfall and a batch from
+   * the central ledger, or just the shortfall if the central ledger cannot cover both. If it
+   * cannot even cover the shortfall, the floats of the other tables are reclaimed once before the
+   * amount is refused.
+   */
+  @Override
+  public boolean debit(final long cents) {
+    Ledger.requirePositiveOrZero(cents);
+    boolean reclaimed = false;
+    while (true) {
+      final long current = local.get();
+      if (current >= cents) {
+        if (local.compareAndSet(current, current - cents)) {
+          wallet.count(-cents);
+          return true;
+        }
+        continue;
+      }
+      final long shortfall = cents - current;
+      final long reserved;
+      if (wallet.central().debit(shortfall + wallet.getBatch())) {
+        reserved = shortfall + wallet.getBatch();
+      } else if (wallet.central().debit(shortfall)) {
+        reserved = shortfall;
+      } else if (!reclaimed) {
+        wallet.reclaim(this);
+        reclaimed = true;
+        continue;
+      } else {
+        return false;
+      }
+      local.addAndGet(reserved);
+    }
+  }
+
+  /**
+   * Returns the whole float to the central ledger.
+   */
+  void release() {
+    final long released = local.getAndSet(0);
+    if (released > 0) {
+      wallet.central().credit(released);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TableWallet float $%s", Ledger.toDollars(getFloat()));
+  }
+}
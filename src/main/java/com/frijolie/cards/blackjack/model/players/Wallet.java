@@ -0,0 +1,165 @@
+package com.frijolie.cards.blackjack.model.players;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wallet holds the money of a player who sits at several tables at once.
+ *
+ * <p>The money is kept in a central {@link Ledger}, and each table opened on the wallet holds a
+ * float of its own as a {@link TableWallet}. Wagers are debited from, and winnings credited to, the
+ * float of the table, so tables do not contend with each other over one balance. A float which
+ * runs short reserves a batch from the central ledger, and a float which grows beyond two batches
+ * returns the excess. The central ledger is lock-free and no lock is taken on the way.
+ *
+ * <p>A table is only refused a wager when the whole wallet cannot cover it: if the central ledger
+ * runs dry, the floats of the other tables are reclaimed before the wager is refused. The wallet is
+ * bankrupt, as a {@link BlackjackPlayer} is, once nothing remains at any table.
+ *
+ * <p>The balance of the wallet is a total of its own, changed only by wagers and winnings. Money
+ * moving between the central ledger and the floats leaves it untouched, so reading the balance
+ * never misses money in transit. A credit is counted before the table may spend it and a debit
+ * after the table has taken it, therefore the balance is never read below the money held.
+ *
+ * @see TableWallet
+ */
+public final class Wallet {
+
+  /**
+   * The number of minimum bets reserved by a table each time its float runs short, unless another
+   * batch is given.
+   */
+  public static final int DEFAULT_BATCH_BETS = 10;
+
+  private final Ledger central;
+  private final AtomicLong total;
+  private final long batch;
+  private final List<TableWallet> tables = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a wallet whose tables reserve {@link #DEFAULT_BATCH_BETS} of {@link
+   * GameRules#MIN_BET} at a time.
+   *
+   * @param cents the opening balance
+   * @throws IllegalArgumentException if the opening balance is negative
+   */
+  public Wallet(final long cents) {
+    this(cents, DEFAULT_BATCH_BETS * Ledger.toCents(GameRules.MIN_BET));
+  }
+
+  /**
+   * Creates a wallet whose tables reserve the given batch at a time.
+   *
+   * @param cents the opening balance
+   * @param batch reserved by a table each time its float runs short, in cents
+   * @throws IllegalArgumentException if the opening balance is negative or the batch is not
+   *                                  positive
+   */
+  public Wallet(final long cents, final long batch) {
+    if (batch < 1) {
+      throw new IllegalArgumentException("The batch must be positive: " + batch);
+    }
+    this.central = new Ledger(cents);
+    this.total = new AtomicLong(cents);
+    this.batch = batch;
+  }
+
+  /**
+   * Opens a table on the wallet, with an empty float.
+   *
+   * @return the account of the table
+   */
+  public TableWallet openTable() {
+    final TableWallet table = new TableWallet(this);
+    tables.add(table);
+    return table;
+  }
+
+  /**
+   * Closes a table, returning its float to the central ledger.
+   *
+   * @param table to close
+   */
+  public void closeTable(final TableWallet table) {
+    tables.remove(table);
+    table.release();
+  }
+
+  /**
+   * Returns the float of every table to the central ledger.
+   */
+  public void rebalance() {
+    for (TableWallet table : tables) {
+      table.release();
+    }
+  }
+
+  /**
+   * Returns the money in the wallet, in the central ledger and at every table. Neither the central
+   * ledger nor the floats are read.
+   *
+   * @return the balance in cents
+   */
+  public long getBalance() {
+    return total.get();
+  }
+
+  /**
+   * Returns the money in the central ledger, which no table has reserved.
+   *
+   * @return the central balance in cents
+   */
+  public long getCentralBalance() {
+    return central.getBalance();
+  }
+
+  /**
+   * Returns the number of cents a table reserves when its float runs short.
+   *
+   * @return the batch in cents
+   */
+  public long getBatch() {
+    return batch;
+  }
+
+  /**
+   * Returns {@code true} if no money remains in the wallet.
+   *
+   * @return {@code true} if the wallet is bankrupt
+   */
+  public boolean isBankrupt() {
+    return getBalance() <= 0;
+  }
+
+  Ledger central() {
+    return central;
+  }
+
+  /**
+   * Counts a wager or winnings of a table in the balance of the wallet.
+   */
+  void count(final long cents) {
+    total.addAndGet(cents);
+  }
+
+  /**
+   * Returns the floats of every table but the given one to the central ledger, so that it may
+   * cover a wager.
+   */
+  void reclaim(final TableWallet except) {
+    for (TableWallet table : tables) {
+      if (table != except) {
+        table.release();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Wallet $%s across %d tables", Ledger.toDollars(getBalance()),
+        tables.size());
+  }
+}
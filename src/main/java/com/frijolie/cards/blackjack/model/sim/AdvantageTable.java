@@ -0,0 +1,117 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import java.util.Arrays;
+
+/**
+ * AdvantageTable holds the advantage of the player, and the variance of a round, at each true
+ * count, rounded down. It is the input of {@link BettingPolicy#kelly(AdvantageTable, double,
+ * double, double, double)}.
+ *
+ * <p>A table may be measured with {@link CountedResult#toAdvantageTable()}, or approximated with
+ * {@link #linear(double, double, double, int, int)}. True counts beyond either end of the table
+ * take the value at that end.
+ *
+ * @see BettingPolicy
+ */
+public final class AdvantageTable {
+
+  private final int minTrueCount;
+  private final double[] advantages;
+  private final double[] variances;
+
+  /**
+   * Creates a table from the advantage and variance at each true count from the minimum upwards.
+   *
+   * @param minTrueCount of the first entry
+   * @param advantages   expected net units per unit bet at each true count
+   * @param variances    variance of the net units per unit bet at each true count
+   * @throws IllegalArgumentException if the arrays are empty, differ in length, or a variance is
+   *                                  not positive
+   */
+  public AdvantageTable(final int minTrueCount, final double[] advantages,
+      final double[] variances) {
+    if (advantages.length == 0 || advantages.length != variances.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected the same number of advantages and variances, but was %d and %d",
+          advantages.length, variances.length));
+    }
+    for (double variance : variances) {
+      if (!(variance > 0)) {
+        throw new IllegalArgumentException("A variance must be positive: " + variance);
+      }
+    }
+    this.minTrueCount = minTrueCount;
+    this.advantages = advantages.clone();
+    this.variances = variances.clone();
+  }
+
+  /**
+   * Approximates a table in which the advantage rises by the same amount with each true count.
+   * For Hi-Lo, an advantage of about -0.5% off the top rising 0.5% per true count, with a variance
+   * of 1.3, is the usual rule of thumb.
+   *
+   * @param offTheTop    advantage at a true count of zero
+   * @param perTrueCount rise in the advantage with each true count
+   * @param variance     of a round at every true count
+   * @param minTrueCount of the table
+   * @param maxTrueCount of the table
+   * @return the linear table
+   */
+  public static AdvantageTable linear(final double offTheTop, final double perTrueCount,
+      final double variance, final int minTrueCount, final int maxTrueCount) {
+    final double[] advantages = new double[maxTrueCount - minTrueCount + 1];
+    final double[] variances = new double[advantages.length];
+    for (int i = 0; i < advantages.length; i++) {
+      advantages[i] = offTheTop + perTrueCount * (minTrueCount + i);
+      variances[i] = variance;
+    }
+    return new AdvantageTable(minTrueCount, advantages, variances);
+  }
+
+  /**
+   * Returns the advantage of the player at the true count.
+   *
+   * @param trueCount rounded down
+   * @return the expected net units per unit bet
+   */
+  public double getAdvantage(final int trueCount) {
+    return advantages[index(trueCount)];
+  }
+
+  /**
+   * Returns the variance of a round at the true count.
+   *
+   * @param trueCount rounded down
+   * @return the variance of the net units per unit bet
+   */
+  public double getVariance(final int trueCount) {
+    return variances[index(trueCount)];
+  }
+
+  /**
+   * Returns the lowest true count in the table.
+   *
+   * @return the minimum true count
+   */
+  public int getMinTrueCount() {
+    return minTrueCount;
+  }
+
+  /**
+   * Returns the highest true count in the table.
+   *
+   * @return the maximum true count
+   */
+  public int getMaxTrueCount() {
+    return minTrueCount + advantages.length - 1;
+  }
+
+  private int index(final int trueCount) {
+    return Math.min(Math.max(trueCount - minTrueCount, 0), advantages.length - 1);
+  }
+
+  @Override
+  public String toString() {
+    return "AdvantageTable from " + minTrueCount + " " + Arrays.toString(advantages);
+  }
+}
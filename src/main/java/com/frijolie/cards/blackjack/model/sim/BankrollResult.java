@@ -0,0 +1,212 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+/**
+ * BankrollResult accumulates the bankroll paths followed by a {@link BankrollSimulator}.
+ *
+ * <p>At each checkpoint it keeps the number of paths ruined since the previous checkpoint and a
+ * {@link QuantileSketch} of the bankrolls, ruined paths counting as zero. The net units of every
+ * round played are also kept, from which {@link #getN0()} and a long run estimate of the risk of
+ * ruin are derived. Each worker fills its own BankrollResult, and the results are merged when the
+ * workers finish.
+ *
+ * @see BankrollSimulator
+ */
+public final class BankrollResult {
+
+  private final double bankroll;
+  private final long rounds;
+  private final long[] ruined = new long[BankrollSimulator.CHECKPOINTS];
+  private final QuantileSketch[] bankrolls = new QuantileSketch[BankrollSimulator.CHECKPOINTS];
+  private final SimulationResult roundResult = new SimulationResult();
+  private long paths;
+
+  /**
+   * Creates an empty result for paths of the given length.
+   *
+   * @param bankroll at the start of each path, in units
+   * @param rounds   the length of each path
+   */
+  BankrollResult(final double bankroll, final long rounds) {
+    this.bankroll = bankroll;
+    this.rounds = rounds;
+    for (int i = 0; i < bankrolls.length; i++) {
+      bankrolls[i] = new QuantileSketch();
+    }
+  }
+
+  void recordRound(final double net) {
+    roundResult.recordRound(net);
+  }
+
+  /**
+   * Records the bankroll of a path at a checkpoint. A path which reaches the last checkpoint is
+   * complete.
+   */
+  void recordBankroll(final int checkpoint, final double cash) {
+    bankrolls[checkpoint].add(cash);
+    if (checkpoint == bankrolls.length - 1) {
+      paths++;
+    }
+  }
+
+  /**
+   * Records a path ruined before the given checkpoint, which has a bankroll of zero from then on.
+   */
+  void recordRuin(final int checkpoint) {
+    ruined[checkpoint]++;
+    for (int i = checkpoint; i < bankrolls.length; i++) {
+      bankrolls[i].add(0);
+    }
+    paths++;
+  }
+
+  /**
+   * Adds the paths of another result to this one.
+   *
+   * @param other result to add, for paths of the same bankroll and length
+   * @return this result
+   * @throws IllegalArgumentException if the bankroll or length of the paths differ
+   */
+  public BankrollResult merge(final BankrollResult other) {
+    if (other.bankroll != bankroll || other.rounds != rounds) {
+      throw new IllegalArgumentException("Cannot merge the results of different paths");
+    }
+    for (int i = 0; i < ruined.length; i++) {
+      ruined[i] += other.ruined[i];
+      bankrolls[i].merge(other.bankrolls[i]);
+    }
+    roundResult.merge(other.roundResult);
+    paths += other.paths;
+    return this;
+  }
+
+  /**
+   * Returns the number of paths followed.
+   *
+   * @return the number of paths
+   */
+  public long getPaths() {
+    return paths;
+  }
+
+  /**
+   * Returns the bankroll at the start of each path.
+   *
+   * @return the starting bankroll, in units
+   */
+  public double getStartingBankroll() {
+    return bankroll;
+  }
+
+  /**
+   * Returns the number of rounds in each path.
+   *
+   * @return the length of a path
+   */
+  public long getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Returns the round of each path after which the bankroll is recorded for the checkpoint.
+   *
+   * @param checkpoint between 0 and {@link BankrollSimulator#CHECKPOINTS} exclusive
+   * @return the round of the checkpoint, counting from 1
+   */
+  public long getCheckpointRound(final int checkpoint) {
+    return Math.max(1, rounds * (checkpoint + 1) / BankrollSimulator.CHECKPOINTS);
+  }
+
+  /**
+   * Returns the fraction of paths ruined by the end.
+   *
+   * @return the risk of ruin
+   */
+  public double getRiskOfRuin() {
+    return getRiskOfRuin(ruined.length - 1);
+  }
+
+  /**
+   * Returns the fraction of paths ruined by the given checkpoint.
+   *
+   * @param checkpoint between 0 and {@link BankrollSimulator#CHECKPOINTS} exclusive
+   * @return the risk of ruin by the checkpoint, or 0 if no path was followed
+   */
+  public double getRiskOfRuin(final int checkpoint) {
+    if (paths == 0) {
+      return 0;
+    }
+    long total = 0;
+    for (int i = 0; i <= checkpoint; i++) {
+      total += ruined[i];
+    }
+    return (double) total / paths;
+  }
+
+  /**
+   * Returns the standard error of the risk of ruin by the end.
+   *
+   * @return the standard error, or 0 if no path was followed
+   */
+  public double getRiskOfRuinStandardError() {
+    final double risk = getRiskOfRuin();
+    return paths == 0 ? 0 : Math.sqrt(risk * (1 - risk) / paths);
+  }
+
+  /**
+   * Returns the bankroll below which the given fraction of paths end.
+   *
+   * @param quantile between 0 and 1, 0.5 for the median
+   * @return the bankroll, in units
+   */
+  public double getPercentile(final double quantile) {
+    return getPercentile(bankrolls.length - 1, quantile);
+  }
+
+  /**
+   * Returns the bankroll below which the given fraction of paths fall at the checkpoint.
+   *
+   * @param checkpoint between 0 and {@link BankrollSimulator#CHECKPOINTS} exclusive
+   * @param quantile   between 0 and 1, 0.5 for the median
+   * @return the bankroll, in units
+   */
+  public double getPercentile(final int checkpoint, final double quantile) {
+    return bankrolls[checkpoint].quantile(quantile);
+  }
+
+  /**
+   * Returns the net units of every round played, over every path.
+   *
+   * @return the result of a round under the policy
+   */
+  public SimulationResult getRoundResult() {
+    return roundResult;
+  }
+
+  /**
+   * Returns N0, the number of rounds after which the expected win equals one standard deviation.
+   *
+   * @return N0, or positive infinity if the policy has no advantage
+   */
+  public double getN0() {
+    final double ev = roundResult.getExpectedValue();
+    return ev > 0 ? roundResult.getVariance() / (ev * ev) : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Estimates the risk of ever being ruined when playing without end, {@code exp(-2 ev B /
+   * variance)} for a bankroll of B units.
+   *
+   * @return the long run risk of ruin, 1 if the policy has no advantage
+   */
+  public double getLongRunRiskOfRuin() {
+    final double ev = roundResult.getExpectedValue();
+    return ev > 0 ? Math.exp(-2 * ev * bankroll / roundResult.getVariance()) : 1;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("paths=%d, rounds=%d, ruin=%.5f, median=%.2f, n0=%.0f", paths, rounds,
+        getRiskOfRuin(), getPercentile(0.5), getN0());
+  }
+}
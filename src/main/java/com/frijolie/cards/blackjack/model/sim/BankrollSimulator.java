@@ -0,0 +1,173 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.cards.CountingSystem;
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * BankrollSimulator follows a great number of independent bankroll paths, each a player starting
+ * with the same cash and betting by a {@link BettingPolicy}, and reports the risk of ruin and the
+ * spread of bankrolls along the way.
+ *
+ * <p>A path is ruined once its bankroll cannot cover the bet the policy calls for, after which its
+ * bankroll is taken to be zero. A hand is only doubled or split if the bankroll covers the extra
+ * bet, so a path never loses money it does not have. Each path begins with a freshly shuffled
+ * shoe, and the bankroll of every path is added to a {@link QuantileSketch} at each of the {@link
+ * #CHECKPOINTS}. Paths are never stored, so memory stays the same however many are followed.
+ *
+ * <p>Paths are divided between workers as the rounds of a {@link Simulator} are, each worker with
+ * its own shoe and generator, so a run is reproducible given the same seed and number of workers.
+ *
+ * @see BankrollResult
+ */
+public class BankrollSimulator {
+
+  /**
+   * The number of evenly spaced rounds of each path at which the bankroll is recorded. The last is
+   * the end of the path.
+   */
+  public static final int CHECKPOINTS = 10;
+
+  private final RuleSet rules;
+  private final PlayerStrategy strategy;
+  private final CountingSystem system;
+  private final BettingPolicy policy;
+
+  /**
+   * Creates a BankrollSimulator for the given rules, strategy and betting policy.
+   *
+   * @param rules    rules of the game
+   * @param strategy used to play the hands of the player
+   * @param system   with which the cards dealt are counted
+   * @param policy   which sizes the bet of every round
+   */
+  public BankrollSimulator(final RuleSet rules, final PlayerStrategy strategy,
+      final CountingSystem system, final BettingPolicy policy) {
+    this.rules = Objects.requireNonNull(rules, "Rules cannot be null");
+    this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+    this.system = Objects.requireNonNull(system, "The counting system cannot be null");
+    this.policy = Objects.requireNonNull(policy, "Policy cannot be null");
+  }
+
+  /**
+   * Converts cash into units of the minimum bet.
+   *
+   * @param cash   to convert
+   * @param minBet the value of one unit
+   * @return the number of units
+   */
+  public static double units(final BigDecimal cash, final BigDecimal minBet) {
+    return cash.divide(minBet, MathContext.DECIMAL64).doubleValue();
+  }
+
+  /**
+   * Follows the given number of paths, each starting with {@link GameRules#STARTING_CASH}, with
+   * one worker per available processor.
+   *
+   * @param rounds the length of each path
+   * @param paths  to follow
+   * @param seed   of the generator from which each worker's generator is split
+   * @return the merged result of every worker
+   */
+  public final BankrollResult run(final long rounds, final long paths, final long seed) {
+    return run(units(GameRules.STARTING_CASH, rules.getMinBet()), rounds, paths, seed,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Follows the given number of paths, divided as evenly as possible between the given number of
+   * workers.
+   *
+   * @param bankroll at the start of each path, in units
+   * @param rounds   the length of each path
+   * @param paths    to follow
+   * @param seed     of the generator from which each worker's generator is split
+   * @param workers  number of workers, at least 1
+   * @return the merged result of every worker
+   * @throws IllegalArgumentException if the bankroll or rounds are not positive, paths is
+   *                                  negative or workers is less than 1
+   */
+  public final BankrollResult run(final double bankroll, final long rounds, final long paths,
+      final long seed, final int workers) {
+    check(bankroll, rounds);
+    final BankrollResult result = new BankrollResult(bankroll, rounds);
+    for (CompletableFuture<BankrollResult> future : Simulator.fork(paths, seed, workers,
+        (share, random) -> play(bankroll, rounds, share, random))) {
+      result.merge(future.join());
+    }
+    return result;
+  }
+
+  /**
+   * Follows the given number of paths on the calling thread.
+   *
+   * @param bankroll at the start of each path, in units
+   * @param rounds   the length of each path
+   * @param paths    to follow
+   * @param random   used to shuffle the shoe, which must not be shared with another thread
+   * @return the result of the paths
+   * @throws IllegalArgumentException if the bankroll or rounds are not positive
+   */
+  public final BankrollResult play(final double bankroll, final long rounds, final long paths,
+      final SplittableRandom random) {
+    check(bankroll, rounds);
+    final BankrollResult result = new BankrollResult(bankroll, rounds);
+    final RoundPlayer player = new RoundPlayer(rules, strategy, random, system);
+    final SimulationResult hands = new SimulationResult();
+    for (long path = 0; path < paths; path++) {
+      player.shuffle();
+      double cash = bankroll;
+      int checkpoint = 0;
+      for (long round = 1; round <= rounds; round++) {
+        final double bet = policy.units(player.trueCount());
+        if (bet > cash) {
+          break;
+        }
+        final double net = bet * player.playRound(hands, cash / bet);
+        cash += net;
+        result.recordRound(net);
+        if (cash <= 0) {
+          break;
+        }
+        while (checkpoint < CHECKPOINTS && result.getCheckpointRound(checkpoint) == round) {
+          result.recordBankroll(checkpoint++, cash);
+        }
+      }
+      if (checkpoint < CHECKPOINTS) {
+        result.recordRuin(checkpoint);
+      }
+    }
+    return result;
+  }
+
+  private static void check(final double bankroll, final long rounds) {
+    if (!(bankroll > 0) || rounds < 1) {
+      throw new IllegalArgumentException(String.format(
+          "The bankroll and rounds must be positive, but were %s and %d", bankroll, rounds));
+    }
+  }
+
+  /**
+   * Returns the policy which sizes the bets.
+   *
+   * @return the betting policy
+   */
+  public final BettingPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Returns the rules of the game.
+   *
+   * @return the rules
+   */
+  public final RuleSet getRuleSet() {
+    return rules;
+  }
+}
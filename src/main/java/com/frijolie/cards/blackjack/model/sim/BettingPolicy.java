@@ -0,0 +1,108 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import java.util.Arrays;
+
+/**
+ * A BettingPolicy decides how many units to bet on a round from the true count before the round is
+ * dealt, one unit being {@link com.frijolie.cards.blackjack.model.game.GameRules#MIN_BET}.
+ *
+ * <p>The true count is rounded down to a whole number, which is how players size their bets and
+ * which lets a {@link CountedResult} evaluate any number of policies from a single simulation. A
+ * policy is shared by every worker of a run and must therefore be stateless, or at least thread
+ * safe.
+ *
+ * @see CountedResult#evaluate(java.util.List)
+ */
+@FunctionalInterface
+public interface BettingPolicy {
+
+  /**
+   * Bets one unit on every round, regardless of the count.
+   */
+  BettingPolicy FLAT = trueCount -> 1;
+
+  /**
+   * Returns a bet spread which bets the first number of units at or below the first true count,
+   * the next number of units at the next true count, and so on, and the last number of units at
+   * any higher true count. A ramp of 1 to 8 units starting at a true count of 1 is
+   * {@code ramp(1, 1, 2, 4, 6, 8)}.
+   *
+   * @param firstTrueCount at or below which the first number of units is bet
+   * @param units          bet at each true count from the first upwards
+   * @return the bet spread
+   * @throws IllegalArgumentException if no units are given, or any is negative
+   */
+  static BettingPolicy ramp(final int firstTrueCount, final double... units) {
+    if (units.length == 0) {
+      throw new IllegalArgumentException("A ramp needs at least one bet");
+    }
+    final double[] ramp = units.clone();
+    for (double unit : ramp) {
+      if (unit < 0) {
+        throw new IllegalArgumentException("A bet cannot be negative: " + unit);
+      }
+    }
+    return new BettingPolicy() {
+      @Override
+      public double units(final int trueCount) {
+        final int index = Math.min(Math.max(trueCount - firstTrueCount, 0), ramp.length - 1);
+        return ramp[index];
+      }
+
+      @Override
+      public String toString() {
+        return "ramp from " + firstTrueCount + " " + Arrays.toString(ramp);
+      }
+    };
+  }
+
+  /**
+   * Returns a policy which bets a fraction of the Kelly bet, the bankroll times the advantage over
+   * the variance at the true count. The bet is never less than the minimum nor more than the
+   * maximum, and the minimum is bet whenever the advantage is not positive.
+   *
+   * @param table    of the advantage and variance at each true count
+   * @param fraction of the Kelly bet to make, 0.5 for half Kelly
+   * @param bankroll in units
+   * @param minUnits the smallest bet, 0 to sit out rounds without an advantage
+   * @param maxUnits the largest bet
+   * @return the fractional Kelly policy
+   * @throws IllegalArgumentException if the fraction or bankroll is not positive, or the minimum
+   *                                  is negative or exceeds the maximum
+   */
+  static BettingPolicy kelly(final AdvantageTable table, final double fraction,
+      final double bankroll, final double minUnits, final double maxUnits) {
+    if (fraction <= 0 || bankroll <= 0) {
+      throw new IllegalArgumentException("The fraction and bankroll must be positive");
+    }
+    if (minUnits < 0 || minUnits > maxUnits) {
+      throw new IllegalArgumentException(String.format(
+          "Expected 0 <= minimum <= maximum, but was %s and %s", minUnits, maxUnits));
+    }
+    return new BettingPolicy() {
+      @Override
+      public double units(final int trueCount) {
+        final double advantage = table.getAdvantage(trueCount);
+        if (advantage <= 0) {
+          return minUnits;
+        }
+        final double kelly = fraction * bankroll * advantage / table.getVariance(trueCount);
+        return Math.min(Math.max(kelly, minUnits), maxUnits);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("%.2f Kelly of %.0f units [%s, %s]", fraction, bankroll, minUnits,
+            maxUnits);
+      }
+    };
+  }
+
+  /**
+   * Returns the number of units to bet on the next round.
+   *
+   * @param trueCount before the round is dealt, rounded down
+   * @return the units to bet, 0 to sit the round out
+   */
+  double units(int trueCount);
+}
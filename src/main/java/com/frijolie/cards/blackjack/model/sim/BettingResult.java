@@ -0,0 +1,77 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+/**
+ * BettingResult is the outcome of a {@link BettingPolicy} evaluated by a {@link CountedResult}.
+ *
+ * <p>Results are measured in units per round dealt, counting rounds the policy sat out as a net of
+ * zero. The difference against the baseline policy of the evaluation is measured on the same
+ * rounds, so its standard error tells whether one policy truly beats the other.
+ *
+ * @see CountedResult#evaluate(java.util.List)
+ */
+public final class BettingResult {
+
+  private final BettingPolicy policy;
+  private final SimulationResult result;
+  private final SimulationResult difference;
+  private final double unitsBet;
+
+  BettingResult(final BettingPolicy policy, final SimulationResult result,
+      final SimulationResult difference, final double unitsBet) {
+    this.policy = policy;
+    this.result = result;
+    this.difference = difference;
+    this.unitsBet = unitsBet;
+  }
+
+  /**
+   * Returns the policy which was evaluated.
+   *
+   * @return the policy
+   */
+  public BettingPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Returns the net units won by the policy, per round dealt.
+   *
+   * @return the result of the policy
+   */
+  public SimulationResult getResult() {
+    return result;
+  }
+
+  /**
+   * Returns the net units won by the policy less those won by the baseline, per round dealt.
+   *
+   * @return the paired difference against the baseline
+   */
+  public SimulationResult getDifference() {
+    return difference;
+  }
+
+  /**
+   * Returns the mean number of units bet per round dealt.
+   *
+   * @return the average bet
+   */
+  public double getAverageBet() {
+    return result.getRounds() == 0 ? 0 : unitsBet / result.getRounds();
+  }
+
+  /**
+   * Returns the expected net units won per unit bet.
+   *
+   * @return the advantage of the player, or 0 if nothing was bet
+   */
+  public double getAdvantage() {
+    return unitsBet == 0 ? 0 : result.getTotal() / unitsBet;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: ev=%.5f, se=%.5f, average bet=%.3f, advantage=%.5f", policy,
+        result.getExpectedValue(), result.getStandardError(), getAverageBet(), getAdvantage());
+  }
+}
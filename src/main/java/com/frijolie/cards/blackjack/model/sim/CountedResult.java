@@ -0,0 +1,172 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CountedResult accumulates the outcome of the rounds played by a {@link Simulator}, binned by the
+ * true count, rounded down, at which each round was bet. True counts beyond {@link
+ * #MIN_TRUE_COUNT} and {@link #MAX_TRUE_COUNT} fall in the bin at that end.
+ *
+ * <p>A {@link BettingPolicy} bets the same number of units on every round of a bin, and basic
+ * strategy plays a hand the same whatever its bet. The result of a policy is therefore the sum of
+ * the bins, each scaled by its bet, and a single simulation evaluates any number of policies. As
+ * every policy is measured on the same rounds, the difference between two policies carries far
+ * less noise than two independent simulations would.
+ *
+ * @see Simulator#runCounted(long, long, com.frijolie.cards.blackjack.model.cards.CountingSystem)
+ */
+public final class CountedResult {
+
+  /**
+   * The lowest true count with a bin of its own.
+   */
+  public static final int MIN_TRUE_COUNT = -10;
+
+  /**
+   * The highest true count with a bin of its own.
+   */
+  public static final int MAX_TRUE_COUNT = 10;
+
+  private final SimulationResult[] bins =
+      new SimulationResult[MAX_TRUE_COUNT - MIN_TRUE_COUNT + 1];
+
+  /**
+   * Creates an empty result.
+   */
+  CountedResult() {
+    for (int i = 0; i < bins.length; i++) {
+      bins[i] = new SimulationResult();
+    }
+  }
+
+  /**
+   * Returns the bin of the given true count, to which rounds bet at that count are added.
+   *
+   * @param trueCount rounded down
+   * @return the result of the bin
+   */
+  SimulationResult bin(final int trueCount) {
+    return bins[Math.min(Math.max(trueCount, MIN_TRUE_COUNT), MAX_TRUE_COUNT) - MIN_TRUE_COUNT];
+  }
+
+  /**
+   * Adds the bins of another result to this one.
+   *
+   * @param other result to add
+   * @return this result
+   */
+  public CountedResult merge(final CountedResult other) {
+    for (int i = 0; i < bins.length; i++) {
+      bins[i].merge(other.bins[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the result of the rounds bet at the given true count, in units of one bet.
+   *
+   * @param trueCount rounded down
+   * @return the result of the bin, which must not be modified
+   */
+  public SimulationResult getResult(final int trueCount) {
+    return bin(trueCount);
+  }
+
+  /**
+   * Returns the result of every round, each bet one unit.
+   *
+   * @return the result of flat betting
+   */
+  public SimulationResult getTotal() {
+    final SimulationResult total = new SimulationResult();
+    for (SimulationResult bin : bins) {
+      total.merge(bin);
+    }
+    return total;
+  }
+
+  /**
+   * Measures the advantage and variance at each true count. The table spans the true counts from
+   * the lowest to the highest bin holding at least two rounds, and a bin within that span without
+   * a variance of its own takes the variance of every round.
+   *
+   * @return the measured table
+   * @throws IllegalStateException if fewer than two rounds were played
+   */
+  public AdvantageTable toAdvantageTable() {
+    int low = 0;
+    while (low < bins.length && bins[low].getRounds() < 2) {
+      low++;
+    }
+    if (low == bins.length) {
+      throw new IllegalStateException("Too few rounds were played to measure an advantage");
+    }
+    int high = bins.length - 1;
+    while (bins[high].getRounds() < 2) {
+      high--;
+    }
+    final double overall = getTotal().getVariance();
+    final double[] advantages = new double[high - low + 1];
+    final double[] variances = new double[advantages.length];
+    for (int i = 0; i < advantages.length; i++) {
+      final SimulationResult bin = bins[low + i];
+      advantages[i] = bin.getExpectedValue();
+      variances[i] = bin.getVariance() > 0 ? bin.getVariance() : overall;
+    }
+    return new AdvantageTable(MIN_TRUE_COUNT + low, advantages, variances);
+  }
+
+  /**
+   * Evaluates a betting policy on every round played.
+   *
+   * @param policy to evaluate
+   * @return the result of the policy
+   */
+  public BettingResult evaluate(final BettingPolicy policy) {
+    return evaluate(List.of(policy)).get(0);
+  }
+
+  /**
+   * Evaluates every policy on the same rounds. The difference of each policy is measured against
+   * the first.
+   *
+   * @param policies to evaluate, the first of which is the baseline
+   * @return a result for each policy, in the given order
+   */
+  public List<BettingResult> evaluate(final List<? extends BettingPolicy> policies) {
+    final List<BettingResult> results = new ArrayList<>(policies.size());
+    if (policies.isEmpty()) {
+      return results;
+    }
+    final double[] baseline = bets(policies.get(0));
+    for (BettingPolicy policy : policies) {
+      final double[] bets = bets(policy);
+      final SimulationResult result = new SimulationResult();
+      final SimulationResult difference = new SimulationResult();
+      double unitsBet = 0;
+      for (int i = 0; i < bins.length; i++) {
+        result.addScaled(bins[i], bets[i]);
+        difference.addScaled(bins[i], bets[i] - baseline[i]);
+        unitsBet += bets[i] * bins[i].getRounds();
+      }
+      results.add(new BettingResult(policy, result, difference, unitsBet));
+    }
+    return results;
+  }
+
+  private double[] bets(final BettingPolicy policy) {
+    Objects.requireNonNull(policy, "Policy cannot be null");
+    final double[] bets = new double[bins.length];
+    for (int i = 0; i < bets.length; i++) {
+      bets[i] = policy.units(MIN_TRUE_COUNT + i);
+    }
+    return bets;
+  }
+
+  @Override
+  public String toString() {
+    return "CountedResult " + getTotal();
+  }
+}
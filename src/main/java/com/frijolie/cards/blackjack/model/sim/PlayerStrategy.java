@@ -0,0 +1,54 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+import com.frijolie.cards.blackjack.model.game.StrategyEngine;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+/**
+ * A PlayerStrategy decides how a {@link Simulator} plays each hand of the player.
+ *
+ * <p>Hands are described by their {@link HandStateTable} state rather than by their cards, so a
+ * strategy can be a handful of table lookups. A strategy is shared by every worker of a run and
+ * must therefore be stateless, or at least thread safe.
+ *
+ * @see HandStateTable
+ * @see Simulator
+ */
+@FunctionalInterface
+public interface PlayerStrategy {
+
+  /**
+   * Mimics the dealer: hits below 17 and stands otherwise. This never doubles, splits or
+   * surrenders.
+   */
+  PlayerStrategy MIMIC_DEALER = (state, dealerUpValue, canDouble, canSplit, canSurrender) ->
+      HandStateTable.total(state) < 17 ? Action.HIT : Action.STAND;
+
+  /**
+   * Returns a strategy which plays basic strategy for the given rules.
+   *
+   * @param rules of the game being simulated
+   * @return a basic strategy player
+   * @see StrategyEngine
+   */
+  static PlayerStrategy basic(final RuleSet rules) {
+    final boolean hitsSoft17 = rules.dealerHitsSoft17();
+    return (state, dealerUpValue, canDouble, canSplit, canSurrender) -> StrategyEngine.decide(
+        state, dealerUpValue, canDouble, canSplit, canSurrender, hitsSoft17);
+  }
+
+  /**
+   * Decides the next action for a hand. {@link Action#DOUBLE_DOWN}, {@link Action#SPLIT} and
+   * {@link Action#SURRENDER} may only be returned when the matching flag is {@code true}.
+   *
+   * @param state         of the hand, a {@link HandStateTable} state id
+   * @param dealerUpValue value of the dealer's face up card, between 2 and 11
+   * @param canDouble     {@code true} if the hand may double down
+   * @param canSplit      {@code true} if the hand may be split
+   * @param canSurrender  {@code true} if the hand may be surrendered
+   * @return the action to take
+   */
+  Action decide(int state, int dealerUpValue, boolean canDouble, boolean canSplit,
+      boolean canSurrender);
+}
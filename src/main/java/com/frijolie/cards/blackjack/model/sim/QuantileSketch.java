@@ -0,0 +1,165 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+/**
+ * QuantileSketch estimates the quantiles of a stream of non-negative values without keeping the
+ * values themselves.
+ *
+ * <p>Values are counted in buckets whose bounds grow geometrically, so every quantile is returned
+ * within the relative accuracy of the sketch. The buckets span {@link #MIN_VALUE} to
+ * {@link #MAX_VALUE} and are allocated once; smaller values are counted as zero and larger values
+ * in the last bucket. A sketch therefore takes the same memory however many values are added, and
+ * sketches with the same accuracy merge exactly, whatever order their values arrived in.
+ *
+ * <p>A QuantileSketch is not thread safe. Each worker fills its own and the sketches are merged
+ * when the workers finish.
+ */
+public final class QuantileSketch {
+
+  /**
+   * The relative accuracy of a sketch created with the no-arg constructor.
+   */
+  public static final double DEFAULT_ACCURACY = 0.005;
+
+  /**
+   * The smallest value counted apart from zero.
+   */
+  public static final double MIN_VALUE = 1e-3;
+
+  /**
+   * The largest value counted in a bucket of its own.
+   */
+  public static final double MAX_VALUE = 1e12;
+
+  private final double accuracy;
+  private final double logGamma;
+  private final int offset;
+  private final long[] buckets;
+  private long zeros;
+  private long count;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Creates a sketch with the {@link #DEFAULT_ACCURACY}.
+   */
+  public QuantileSketch() {
+    this(DEFAULT_ACCURACY);
+  }
+
+  /**
+   * Creates a sketch which returns quantiles within the given relative accuracy.
+   *
+   * @param accuracy relative error of a quantile, between 0 and 1 exclusive
+   * @throws IllegalArgumentException if the accuracy is not between 0 and 1 exclusive
+   */
+  public QuantileSketch(final double accuracy) {
+    if (!(accuracy > 0 && accuracy < 1)) {
+      throw new IllegalArgumentException("Accuracy must be between 0 and 1: " + accuracy);
+    }
+    this.accuracy = accuracy;
+    this.logGamma = Math.log((1 + accuracy) / (1 - accuracy));
+    this.offset = (int) Math.ceil(Math.log(MIN_VALUE) / logGamma);
+    this.buckets = new long[(int) Math.ceil(Math.log(MAX_VALUE) / logGamma) - offset + 1];
+  }
+
+  /**
+   * Adds a value to the sketch. Negative values are counted as zero.
+   *
+   * @param value to add
+   */
+  public void add(final double value) {
+    count++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    if (value < MIN_VALUE) {
+      zeros++;
+    } else {
+      final int index = (int) Math.ceil(Math.log(value) / logGamma) - offset;
+      buckets[Math.min(index, buckets.length - 1)]++;
+    }
+  }
+
+  /**
+   * Adds the values of another sketch to this one.
+   *
+   * @param other sketch to add, with the same accuracy
+   * @return this sketch
+   * @throws IllegalArgumentException if the accuracies differ
+   */
+  public QuantileSketch merge(final QuantileSketch other) {
+    if (other.accuracy != accuracy) {
+      throw new IllegalArgumentException(String.format(
+          "Cannot merge a sketch of accuracy %s into one of %s", other.accuracy, accuracy));
+    }
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] += other.buckets[i];
+    }
+    zeros += other.zeros;
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /**
+   * Returns the value below which the given fraction of the values fall. The lowest and highest
+   * quantiles are exact.
+   *
+   * @param quantile between 0 and 1, 0.5 for the median
+   * @return the estimated quantile, or NaN if the sketch is empty
+   * @throws IllegalArgumentException if the quantile is not between 0 and 1
+   */
+  public double quantile(final double quantile) {
+    if (!(quantile >= 0 && quantile <= 1)) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    if (count == 0) {
+      return Double.NaN;
+    }
+    if (quantile == 0) {
+      return min;
+    }
+    if (quantile == 1) {
+      return max;
+    }
+    final long rank = (long) (quantile * (count - 1));
+    if (rank < zeros) {
+      return Math.max(min, 0);
+    }
+    long seen = zeros;
+    for (int i = 0; i < buckets.length; i++) {
+      seen += buckets[i];
+      if (seen > rank) {
+        // the bucket holds values above gamma^(k-1) and up to gamma^k, where gamma^k * (1 - a)
+        // is within a of both bounds
+        final double estimate = Math.exp((i + offset) * logGamma) * (1 - accuracy);
+        return Math.min(Math.max(estimate, min), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the number of values added.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the relative accuracy of the sketch.
+   *
+   * @return the accuracy
+   */
+  public double getAccuracy() {
+    return accuracy;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("QuantileSketch count=%d, min=%s, median=%s, max=%s", count, min,
+        quantile(0.5), max);
+  }
+}
@@ -0,0 +1,326 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.cards.Card;
+import com.frijolie.cards.blackjack.model.cards.CountTracker;
+import com.frijolie.cards.blackjack.model.cards.CountingSystem;
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.cards.PackedShoe;
+import com.frijolie.cards.blackjack.model.cards.Rank;
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.util.SplittableRandom;
+
+/**
+ * RoundPlayer plays rounds of blackjack for a single worker of a {@link Simulator}.
+ *
+ * <p>Each RoundPlayer owns its {@link PackedShoe} and the state of the hands in play, so a worker
+ * plays without locks and without creating objects. Hands are tracked as {@link HandStateTable}
+ * states.
+ *
+ * <p>The dealer draws as {@link
+ * com.frijolie.cards.blackjack.model.players.BlackjackDealer#takeTurn()} does, but the round is
+ * played by casino rules which differ from {@link
+ * com.frijolie.cards.blackjack.model.game.BlackjackGame} in several ways:
+ *
+ * <ul>
+ *   <li>The dealer checks for blackjack before the player acts. BlackjackGame makes no check.</li>
+ *   <li>A player blackjack pays {@link GameRules#BLACKJACK_PAYOUT} and beats any dealer 21 but a
+ *       blackjack. BlackjackGame settles on score alone, so it pushes against a dealer 21.</li>
+ *   <li>Surrender loses half the bet and a double down doubles it. BlackjackGame takes no
+ *       bets.</li>
+ *   <li>A pair may be split once. Split Aces receive one card each and a two card 21 after a
+ *       split is not a blackjack. BlackjackGame does not split.</li>
+ * </ul>
+ *
+ * <p>Every card dealt is counted by a {@link CountTracker}, so rounds may be binned by the true
+ * count at which they were bet.
+ *
+ * <p>The shoe is shuffled between rounds once the cut card is reached. Should it run dry during a
+ * round, which a deep penetration allows, the discards are reshuffled while the cards on the table
+ * stay in play.
+ */
+final class RoundPlayer {
+
+  private static final int MAX_HANDS = 2;
+
+  private final RuleSet rules;
+  private final PlayerStrategy strategy;
+  private final PackedShoe shoe;
+  private final int reshuffleAt;
+  private final CountTracker tracker;
+  private final int[] states = new int[MAX_HANDS];
+  private final int[] bets = new int[MAX_HANDS];
+  private final int[] inPlay;
+  private int cardsInPlay;
+  private int dealerUpValue;
+
+  /**
+   * Creates a RoundPlayer with its own shoe.
+   *
+   * @param rules   rules of the game
+   * @param strategy used to play the hands of the player
+   * @param random   used to shuffle the shoe, owned by this RoundPlayer
+   */
+  RoundPlayer(final RuleSet rules, final PlayerStrategy strategy,
+      final SplittableRandom random) {
+    this(rules, strategy, random, CountingSystem.HI_LO);
+  }
+
+  /**
+   * Creates a RoundPlayer with its own shoe, counted with the given system.
+   *
+   * @param rules    rules of the game
+   * @param strategy used to play the hands of the player
+   * @param random   used to shuffle the shoe, owned by this RoundPlayer
+   * @param system   with which the cards dealt are counted
+   */
+  RoundPlayer(final RuleSet rules, final PlayerStrategy strategy,
+      final SplittableRandom random, final CountingSystem system) {
+    this.rules = rules;
+    this.strategy = strategy;
+    this.shoe = new PackedShoe(rules.getNumberOfDecks(), random);
+    this.reshuffleAt = (int) Math.round(shoe.size() * (1 - rules.getPenetration()));
+    this.tracker = new CountTracker(system, rules.getNumberOfDecks());
+    this.inPlay = new int[shoe.size()];
+  }
+
+  /**
+   * Plays the given number of rounds and adds each outcome to the result.
+   *
+   * @param rounds to play
+   * @param result which accumulates the outcomes
+   */
+  void play(final long rounds, final SimulationResult result) {
+    for (long i = 0; i < rounds; i++) {
+      playRound(result);
+    }
+  }
+
+  /**
+   * Plays the given number of rounds, adding each outcome to the bin of the true count, rounded
+   * down, at which the round was bet.
+   *
+   * @param rounds to play
+   * @param result which accumulates the outcomes by true count
+   */
+  void play(final long rounds, final CountedResult result) {
+    for (long i = 0; i < rounds; i++) {
+      playRound(result.bin(trueCount()));
+    }
+  }
+
+  /**
+   * Returns the true count at which the next round is bet, rounded down. The shoe is shuffled
+   * first if the cut card has been reached.
+   *
+   * @return the true count before the next round
+   */
+  int trueCount() {
+    shuffleIfCut();
+    return (int) Math.floor(tracker.getTrueCount());
+  }
+
+  /**
+   * Shuffles every card back into the shoe and resets the count.
+   */
+  void shuffle() {
+    shoe.shuffle();
+    tracker.reset();
+  }
+
+  /**
+   * Plays one round and adds its outcome to the result.
+   *
+   * @param result which accumulates the outcome
+   * @return the net units won in the round
+   */
+  double playRound(final SimulationResult result) {
+    return playRound(result, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Plays one round, staking at most the given number of bets, and adds its outcome to the result.
+   * A hand is not doubled or split unless the bets already staked and the one added are covered,
+   * so the round never loses more than the cover.
+   *
+   * @param result which accumulates the outcome
+   * @param cover  the number of bets the player can stake on the round, at least 1
+   * @return the net units won in the round
+   */
+  double playRound(final SimulationResult result, final double cover) {
+    shuffleIfCut();
+    cardsInPlay = 0;
+    final int first = deal();
+    dealerUpValue = value(deal());
+    final int second = deal();
+    final int firstValue = value(first);
+    final int secondValue = value(second);
+    final int playerState = HandStateTable.next(HandStateTable.single(firstValue), secondValue);
+    final int dealerState = HandStateTable.next(HandStateTable.single(dealerUpValue), dealValue());
+
+    if (playerState == HandStateTable.BLACKJACK) {
+      return settle(result, dealerState == HandStateTable.BLACKJACK ? 0
+          : GameRules.BLACKJACK_PAYOUT);
+    }
+    if (dealerState == HandStateTable.BLACKJACK) {
+      return settle(result, -1);
+    }
+
+    final boolean canDouble = canDouble(playerState) && cover >= 2;
+    final boolean canSplit = canSplit(first, second) && cover >= 2;
+    final boolean canSurrender = rules.isOfferSurrender();
+    final Action action = strategy.decide(playerState, dealerUpValue, canDouble, canSplit,
+        canSurrender);
+    int hands = 1;
+    bets[0] = 1;
+
+    if (action == Action.SURRENDER) {
+      check(canSurrender, action);
+      return settle(result, -0.5);
+    } else if (action == Action.SPLIT) {
+      check(canSplit, action);
+      hands = 2;
+      bets[1] = 1;
+      states[0] = HandStateTable.next(HandStateTable.single(firstValue), dealValue());
+      states[1] = HandStateTable.next(HandStateTable.single(secondValue), dealValue());
+      if (firstValue != Rank.ACE.getValue()) {
+        for (int i = 0; i < hands; i++) {
+          final boolean mayDouble = canDouble(states[i]) && bets[0] + bets[1] + 1 <= cover;
+          final Action next = strategy.decide(states[i], dealerUpValue, mayDouble, false, false);
+          check(mayDouble || next != Action.DOUBLE_DOWN, next);
+          playHand(i, next);
+        }
+      }
+    } else {
+      check(canDouble || action != Action.DOUBLE_DOWN, action);
+      states[0] = playerState;
+      playHand(0, action);
+    }
+
+    int dealerFinal = dealerState;
+    if (!allBust(hands)) {
+      while (HandStateTable.dealerMustHit(dealerFinal, rules.dealerHitsSoft17())) {
+        dealerFinal = HandStateTable.next(dealerFinal, dealValue());
+      }
+    }
+    final int dealerTotal = HandStateTable.total(dealerFinal);
+
+    double net = 0;
+    for (int i = 0; i < hands; i++) {
+      final int playerTotal = HandStateTable.total(states[i]);
+      final int outcome;
+      if (states[i] == HandStateTable.BUST) {
+        outcome = -1;
+      } else if (dealerFinal == HandStateTable.BUST || playerTotal > dealerTotal) {
+        outcome = 1;
+      } else {
+        outcome = playerTotal < dealerTotal ? -1 : 0;
+      }
+      result.recordHand(outcome);
+      net += outcome * bets[i];
+    }
+    result.recordRound(net);
+    return net;
+  }
+
+  /**
+   * Plays a hand from the given action until it stands, doubles, reaches 21 or busts.
+   *
+   * @param index  of the hand
+   * @param action first action taken
+   */
+  private void playHand(final int index, final Action action) {
+    Action next = action;
+    while (true) {
+      switch (next) {
+        case STAND:
+          return;
+        case DOUBLE_DOWN:
+          bets[index] = 2;
+          states[index] = HandStateTable.next(states[index], dealValue());
+          return;
+        case HIT:
+          states[index] = HandStateTable.next(states[index], dealValue());
+          if (HandStateTable.total(states[index]) >= GameRules.MAX_SCORE) {
+            return;
+          }
+          break;
+        default:
+          throw new IllegalStateException(next + " is not allowed after the first decision");
+      }
+      next = strategy.decide(states[index], dealerUpValue, false, false, false);
+    }
+  }
+
+  private void shuffleIfCut() {
+    if (shoe.remaining() <= reshuffleAt) {
+      shuffle();
+    }
+  }
+
+  private double settle(final SimulationResult result, final double net) {
+    result.recordHand(net);
+    result.recordRound(net);
+    return net;
+  }
+
+  private boolean allBust(final int hands) {
+    for (int i = 0; i < hands; i++) {
+      if (states[i] != HandStateTable.BUST) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /*
+   * Mirrors HeadlessHand: a two card hand may be doubled on a score of 9, 10 or 11.
+   */
+  private boolean canDouble(final int state) {
+    final int total = HandStateTable.total(state);
+    return rules.isDoubleDownAllowed() && total >= 9 && total <= 11;
+  }
+
+  private boolean canSplit(final int first, final int second) {
+    if (!rules.isSplitsAllowed()) {
+      return false;
+    }
+    return rules.isSplitOnValue() ? Card.of(first).sameValue(Card.of(second))
+        : Card.of(first).sameRank(Card.of(second));
+  }
+
+  private static void check(final boolean allowed, final Action action) {
+    if (!allowed) {
+      throw new IllegalStateException(action + " is not allowed for this hand");
+    }
+  }
+
+  private int dealValue() {
+    return value(deal());
+  }
+
+  /*
+   * Deals and counts a card. If the shoe has run dry, the discards are reshuffled and counted
+   * afresh, the cards on the table being the only ones seen.
+   */
+  private int deal() {
+    if (shoe.remaining() == 0) {
+      shoe.reshuffleDiscards(cardsInPlay);
+      tracker.reset();
+      for (int i = 0; i < cardsInPlay; i++) {
+        tracker.count(inPlay[i]);
+      }
+    }
+    final int code = shoe.deal();
+    final int value = value(code);
+    tracker.count(value);
+    inPlay[cardsInPlay++] = value;
+    return code;
+  }
+
+  private static int value(final int code) {
+    return Card.of(code).getValue();
+  }
+}
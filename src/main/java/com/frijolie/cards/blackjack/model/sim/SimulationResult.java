@@ -0,0 +1,191 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+/**
+ * SimulationResult accumulates the outcome of the rounds played by a {@link Simulator}.
+ *
+ * <p>Each worker fills its own SimulationResult without synchronization, then the results of every
+ * worker are combined with {@link #merge(SimulationResult)}. Only counts and sums are kept, so
+ * merging is exact and the order in which results are merged does not matter.
+ *
+ * <p>The net result of a round is measured in units of the initial bet. The expected value,
+ * variance and standard error describe the net result of a round, which covers every hand the
+ * round was split into.
+ *
+ * @see Simulator
+ */
+public final class SimulationResult {
+
+  private long rounds;
+  private long hands;
+  private long wins;
+  private long losses;
+  private long pushes;
+  private double total;
+  private double totalSquares;
+
+  /**
+   * Records the net result of one round.
+   *
+   * @param net the units won, or lost if negative
+   */
+  void recordRound(final double net) {
+    rounds++;
+    total += net;
+    totalSquares += net * net;
+  }
+
+  /**
+   * Records the outcome of one hand.
+   *
+   * @param net the units won by the hand, or lost if negative
+   */
+  void recordHand(final double net) {
+    hands++;
+    if (net > 0) {
+      wins++;
+    } else if (net < 0) {
+      losses++;
+    } else {
+      pushes++;
+    }
+  }
+
+  /**
+   * Adds the counts and sums of another result to this one.
+   *
+   * @param other result to add
+   * @return this result
+   */
+  public SimulationResult merge(final SimulationResult other) {
+    rounds += other.rounds;
+    hands += other.hands;
+    wins += other.wins;
+    losses += other.losses;
+    pushes += other.pushes;
+    total += other.total;
+    totalSquares += other.totalSquares;
+    return this;
+  }
+
+  /**
+   * Adds the rounds of another result as though every round had been played for the given number
+   * of units. Hands are only counted when the weight is not zero, as a round bet nothing is sat
+   * out.
+   *
+   * @param other  result of rounds played for one unit
+   * @param weight number of units bet on each round
+   * @return this result
+   */
+  SimulationResult addScaled(final SimulationResult other, final double weight) {
+    rounds += other.rounds;
+    total += weight * other.total;
+    totalSquares += weight * weight * other.totalSquares;
+    if (weight != 0) {
+      hands += other.hands;
+      wins += other.wins;
+      losses += other.losses;
+      pushes += other.pushes;
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of rounds played.
+   *
+   * @return the number of rounds
+   */
+  public long getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Returns the number of hands played. This exceeds the number of rounds when hands are split.
+   *
+   * @return the number of hands
+   */
+  public long getHands() {
+    return hands;
+  }
+
+  /**
+   * Returns the number of hands won.
+   *
+   * @return the number of wins
+   */
+  public long getWins() {
+    return wins;
+  }
+
+  /**
+   * Returns the number of hands lost, including surrendered hands.
+   *
+   * @return the number of losses
+   */
+  public long getLosses() {
+    return losses;
+  }
+
+  /**
+   * Returns the number of hands pushed.
+   *
+   * @return the number of pushes
+   */
+  public long getPushes() {
+    return pushes;
+  }
+
+  /**
+   * Returns the net units won over every round.
+   *
+   * @return the net units won
+   */
+  public double getTotal() {
+    return total;
+  }
+
+  /**
+   * Returns the mean net result of a round, in units of the initial bet.
+   *
+   * @return the expected value, or 0 if no round was played
+   */
+  public double getExpectedValue() {
+    return rounds == 0 ? 0 : total / rounds;
+  }
+
+  /**
+   * Returns the variance of the net result of a round.
+   *
+   * @return the sample variance, or 0 if fewer than two rounds were played
+   */
+  public double getVariance() {
+    if (rounds < 2) {
+      return 0;
+    }
+    double mean = total / rounds;
+    return Math.max(0, (totalSquares - rounds * mean * mean) / (rounds - 1));
+  }
+
+  /**
+   * Returns the standard deviation of the net result of a round.
+   *
+   * @return the standard deviation
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(getVariance());
+  }
+
+  /**
+   * Returns the standard error of the expected value.
+   *
+   * @return the standard error, or 0 if no round was played
+   */
+  public double getStandardError() {
+    return rounds == 0 ? 0 : Math.sqrt(getVariance() / rounds);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("rounds=%d, hands=%d, wins=%d, losses=%d, pushes=%d, ev=%.5f, se=%.5f",
+        rounds, hands, wins, losses, pushes, getExpectedValue(), getStandardError());
+  }
+}
@@ -0,0 +1,181 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.cards.CountingSystem;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * Simulator plays a great number of rounds of blackjack without a user interface, and reports the
+ * expected value of a {@link PlayerStrategy} under a {@link RuleSet}.
+ *
+ * <p>The rounds are divided between workers, which run in parallel on the common fork join pool.
+ * Every worker has its own shoe and its own {@link SplittableRandom}, split from the generator
+ * seeded by the caller. Workers share nothing while playing, and their results are merged when
+ * they finish. Given the same seed and number of workers a run is reproducible.
+ *
+ * <p>Workers read their rules from an immutable {@link RuleSet}, never from the mutable {@link
+ * com.frijolie.cards.blackjack.model.game.GameRules}, so a rule changed during a run cannot be
+ * seen part way through it.
+ *
+ * <p>A counted run bins the rounds by the true count at which they were bet, from which any number
+ * of {@link BettingPolicy} instances are evaluated on the same shoes.
+ *
+ * @see RoundPlayer
+ * @see SimulationResult
+ */
+public class Simulator {
+
+  private final RuleSet rules;
+  private final PlayerStrategy strategy;
+
+  /**
+   * Creates a Simulator for the given rules and strategy.
+   *
+   * @param rules   rules of the game
+   * @param strategy used to play the hands of the player
+   */
+  public Simulator(final RuleSet rules, final PlayerStrategy strategy) {
+    this.rules = Objects.requireNonNull(rules, "Rules cannot be null");
+    this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+  }
+
+  /**
+   * Plays the given number of rounds with one worker per available processor.
+   *
+   * @param rounds to play
+   * @param seed   of the generator from which each worker's generator is split
+   * @return the merged result of every worker
+   */
+  public final SimulationResult run(final long rounds, final long seed) {
+    return run(rounds, seed, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Plays the given number of rounds, divided as evenly as possible between the given number of
+   * workers.
+   *
+   * @param rounds  to play
+   * @param seed    of the generator from which each worker's generator is split
+   * @param workers number of workers, at least 1
+   * @return the merged result of every worker
+   * @throws IllegalArgumentException if rounds is negative or workers is less than 1
+   */
+  public final SimulationResult run(final long rounds, final long seed, final int workers) {
+    final SimulationResult result = new SimulationResult();
+    for (CompletableFuture<SimulationResult> future : fork(rounds, seed, workers, this::play)) {
+      result.merge(future.join());
+    }
+    return result;
+  }
+
+  /**
+   * Plays the given number of rounds with one worker per available processor, binning each round
+   * by the true count at which it was bet.
+   *
+   * @param rounds to play
+   * @param seed   of the generator from which each worker's generator is split
+   * @param system with which the cards dealt are counted
+   * @return the merged result of every worker
+   */
+  public final CountedResult runCounted(final long rounds, final long seed,
+      final CountingSystem system) {
+    return runCounted(rounds, seed, Runtime.getRuntime().availableProcessors(), system);
+  }
+
+  /**
+   * Plays the given number of rounds, divided as evenly as possible between the given number of
+   * workers, binning each round by the true count at which it was bet.
+   *
+   * @param rounds  to play
+   * @param seed    of the generator from which each worker's generator is split
+   * @param workers number of workers, at least 1
+   * @param system  with which the cards dealt are counted
+   * @return the merged result of every worker
+   * @throws IllegalArgumentException if rounds is negative or workers is less than 1
+   */
+  public final CountedResult runCounted(final long rounds, final long seed, final int workers,
+      final CountingSystem system) {
+    Objects.requireNonNull(system, "The counting system cannot be null");
+    final CountedResult result = new CountedResult();
+    for (CompletableFuture<CountedResult> future : fork(rounds, seed, workers,
+        (share, random) -> playCounted(share, random, system))) {
+      result.merge(future.join());
+    }
+    return result;
+  }
+
+  /**
+   * Plays the given number of rounds on the calling thread.
+   *
+   * @param rounds to play
+   * @param random used to shuffle the shoe, which must not be shared with another thread
+   * @return the result of the rounds
+   */
+  public final SimulationResult play(final long rounds, final SplittableRandom random) {
+    final SimulationResult result = new SimulationResult();
+    new RoundPlayer(rules, strategy, random).play(rounds, result);
+    return result;
+  }
+
+  /**
+   * Plays the given number of rounds on the calling thread, binning each round by the true count
+   * at which it was bet.
+   *
+   * @param rounds to play
+   * @param random used to shuffle the shoe, which must not be shared with another thread
+   * @param system with which the cards dealt are counted
+   * @return the result of the rounds
+   */
+  public final CountedResult playCounted(final long rounds, final SplittableRandom random,
+      final CountingSystem system) {
+    final CountedResult result = new CountedResult();
+    new RoundPlayer(rules, strategy, random, system).play(rounds, result);
+    return result;
+  }
+
+  /**
+   * Starts the workers of a run, each playing its share of the rounds with a generator split from
+   * the seed.
+   */
+  static <T> List<CompletableFuture<T>> fork(final long rounds, final long seed,
+      final int workers, final BiFunction<Long, SplittableRandom, T> worker) {
+    if (rounds < 0) {
+      throw new IllegalArgumentException("Rounds cannot be negative: " + rounds);
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required: " + workers);
+    }
+    final SplittableRandom random = new SplittableRandom(seed);
+    final List<CompletableFuture<T>> futures = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      final long share = rounds / workers + (i < rounds % workers ? 1 : 0);
+      final SplittableRandom workerRandom = random.split();
+      futures.add(CompletableFuture.supplyAsync(() -> worker.apply(share, workerRandom)));
+    }
+    return futures;
+  }
+
+  /**
+   * Returns the rules of the game.
+   *
+   * @return the rules
+   */
+  public final RuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Returns the strategy used to play the hands of the player.
+   *
+   * @return the strategy
+   */
+  public final PlayerStrategy getStrategy() {
+    return strategy;
+  }
+}
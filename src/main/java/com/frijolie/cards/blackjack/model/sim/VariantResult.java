@@ -0,0 +1,58 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+/**
+ * VariantResult pairs a rule variant with the result of simulating it during a {@link
+ * VariantSweep}.
+ *
+ * @see VariantSweep
+ */
+public final class VariantResult {
+
+  private final RuleSet rules;
+  private final SimulationResult result;
+
+  VariantResult(final RuleSet rules, final SimulationResult result) {
+    this.rules = rules;
+    this.result = result;
+  }
+
+  /**
+   * Returns the rules which were simulated.
+   *
+   * @return the rules of the variant
+   */
+  public RuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Returns the merged result of every round played for the variant.
+   *
+   * @return the result of the variant
+   */
+  public SimulationResult getResult() {
+    return result;
+  }
+
+  /**
+   * Returns the house edge, the expected loss of the player per round as a fraction of the
+   * initial bet.
+   *
+   * @return the house edge
+   */
+  public double getHouseEdge() {
+    return -result.getExpectedValue();
+  }
+
+  /**
+   * Returns half the width of the confidence interval of the house edge.
+   *
+   * @param z the number of standard errors on each side of the estimate, 1.96 for 95%
+   * @return half the width of the confidence interval
+   */
+  public double getHalfWidth(final double z) {
+    return z * result.getStandardError();
+  }
+}
@@ -0,0 +1,216 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * VariantSweep estimates the house edge of every combination of the {@link GameRules} toggles and
+ * writes the results as a CSV table.
+ *
+ * <p>Each variant is a {@link RecursiveTask} run on a {@link ForkJoinPool}. A variant plays rounds
+ * in batches and stops once the confidence interval of its house edge is narrower than the target,
+ * or once the maximum number of rounds has been played. Variants with little variance therefore
+ * finish early and leave the pool to the others.
+ *
+ * <p>Every variant has its own {@link SplittableRandom}, split from the seed in the order of the
+ * variants, so a sweep is reproducible regardless of how its tasks are scheduled.
+ *
+ * @see Simulator
+ * @see VariantResult
+ */
+public class VariantSweep {
+
+  /**
+   * The number of standard errors either side of the estimate giving a 95% confidence interval.
+   */
+  public static final double Z_95 = 1.96;
+
+  /**
+   * The header row of the CSV table.
+   */
+  public static final String CSV_HEADER = "decks,dealer_hits_soft_17,double_down_allowed,"
+      + "splits_allowed,split_on_value,offer_surrender,rounds,hands,house_edge,std_error,"
+      + "ci_half_width";
+
+  private final Function<RuleSet, PlayerStrategy> strategies;
+  private final double targetHalfWidth;
+  private final long batchRounds;
+  private final long maxRounds;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a VariantSweep which runs on the common pool.
+   *
+   * @param strategies      gives the strategy used to play the hands of the player in a variant
+   * @param targetHalfWidth of the 95% confidence interval at which a variant stops
+   * @param batchRounds     number of rounds played between checks of the confidence interval
+   * @param maxRounds       number of rounds after which a variant stops regardless
+   */
+  public VariantSweep(final Function<RuleSet, PlayerStrategy> strategies,
+      final double targetHalfWidth, final long batchRounds, final long maxRounds) {
+    this(strategies, targetHalfWidth, batchRounds, maxRounds, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a VariantSweep which runs on the given pool.
+   *
+   * @param strategies      gives the strategy used to play the hands of the player in a variant
+   * @param targetHalfWidth of the 95% confidence interval at which a variant stops
+   * @param batchRounds     number of rounds played between checks of the confidence interval
+   * @param maxRounds       number of rounds after which a variant stops regardless
+   * @param pool            on which the variants are run
+   * @throws IllegalArgumentException if the batch is not positive or is larger than the maximum
+   */
+  public VariantSweep(final Function<RuleSet, PlayerStrategy> strategies,
+      final double targetHalfWidth, final long batchRounds, final long maxRounds,
+      final ForkJoinPool pool) {
+    if (batchRounds < 1 || batchRounds > maxRounds) {
+      throw new IllegalArgumentException("Batch must be between 1 and " + maxRounds + ": "
+          + batchRounds);
+    }
+    this.strategies = Objects.requireNonNull(strategies, "Strategies cannot be null");
+    this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    this.targetHalfWidth = targetHalfWidth;
+    this.batchRounds = batchRounds;
+    this.maxRounds = maxRounds;
+  }
+
+  /**
+   * Expands every combination of the rule toggles for each number of decks in the given range.
+   * Decks vary slowest, followed by {@code DEALER_HITS_SOFT_17}, {@code DOUBLE_DOWN_ALLOWED},
+   * {@code SPLITS_ALLOWED}, {@code SPLIT_ON_VALUE} and {@code OFFER_SURRENDER}. Splitting on value
+   * has no effect when splits are not allowed, so those combinations are skipped rather than
+   * simulating the same game twice.
+   *
+   * @param minDecks smallest number of decks
+   * @param maxDecks largest number of decks
+   * @return the variants, each using the {@link GameRules#DEFAULT_PENETRATION} and the current
+   *     insurance and minimum bet settings
+   */
+  public static List<RuleSet> variants(final int minDecks, final int maxDecks) {
+    final List<RuleSet> variants = new ArrayList<>();
+    for (int decks = minDecks; decks <= maxDecks; decks++) {
+      for (int flags = 0; flags < 32; flags++) {
+        if ((flags & 4) == 0 && (flags & 2) != 0) {
+          continue;
+        }
+        variants.add(new RuleSet(decks, GameRules.DEFAULT_PENETRATION, (flags & 16) != 0,
+            GameRules.OFFER_INSURANCE, (flags & 1) != 0, GameRules.MIN_BET, (flags & 8) != 0,
+            (flags & 4) != 0, (flags & 2) != 0));
+      }
+    }
+    return variants;
+  }
+
+  /**
+   * Runs every variant from {@link GameRules#MIN_NUMBER_OF_DECKS} to {@link
+   * GameRules#MAX_NUMBER_OF_DECKS}.
+   *
+   * @param seed from which the generator of each variant is split
+   * @return a result for each variant, in the order of {@link #variants(int, int)}
+   */
+  public final List<VariantResult> run(final long seed) {
+    return run(variants(GameRules.MIN_NUMBER_OF_DECKS, GameRules.MAX_NUMBER_OF_DECKS), seed);
+  }
+
+  /**
+   * Runs the given variants in parallel.
+   *
+   * @param variants to simulate
+   * @param seed     from which the generator of each variant is split
+   * @return a result for each variant, in the given order
+   */
+  public final List<VariantResult> run(final List<RuleSet> variants, final long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    final List<VariantTask> tasks = new ArrayList<>(variants.size());
+    for (RuleSet variant : variants) {
+      tasks.add(new VariantTask(variant, random.split()));
+    }
+    return pool.invoke(new RecursiveTask<>() {
+      @Override
+      protected List<VariantResult> compute() {
+        final List<VariantResult> results = new ArrayList<>(tasks.size());
+        for (VariantTask task : ForkJoinTask.invokeAll(tasks)) {
+          results.add(task.join());
+        }
+        return results;
+      }
+    });
+  }
+
+  /**
+   * Writes the results as a CSV table, one row per variant below a {@link #CSV_HEADER}.
+   *
+   * @param results to write
+   * @param out     to which the table is appended
+   */
+  public static void writeCsv(final List<VariantResult> results, final Appendable out) {
+    try {
+      out.append(CSV_HEADER).append(System.lineSeparator());
+      for (VariantResult row : results) {
+        final RuleSet rules = row.getRuleSet();
+        final SimulationResult result = row.getResult();
+        out.append(String.format(Locale.ROOT, "%d,%b,%b,%b,%b,%b,%d,%d,%.6f,%.6f,%.6f",
+            rules.getNumberOfDecks(), rules.dealerHitsSoft17(), rules.isDoubleDownAllowed(),
+            rules.isSplitsAllowed(), rules.isSplitOnValue(), rules.isOfferSurrender(),
+            result.getRounds(), result.getHands(), row.getHouseEdge(),
+            result.getStandardError(), row.getHalfWidth(Z_95)))
+            .append(System.lineSeparator());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Runs the full sweep and prints the CSV table to standard output. The optional argument is the
+   * target half width of the confidence interval, which defaults to 0.001.
+   *
+   * @param args the optional target half width
+   */
+  public static void main(final String[] args) {
+    final double target = args.length > 0 ? Double.parseDouble(args[0]) : 0.001;
+    final VariantSweep sweep = new VariantSweep(PlayerStrategy::basic, target, 1_000_000,
+        100_000_000);
+    writeCsv(sweep.run(System.nanoTime()), System.out);
+  }
+
+  /**
+   * Plays one variant in batches until its confidence interval is narrow enough.
+   */
+  private final class VariantTask extends RecursiveTask<VariantResult> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final RuleSet rules;
+    private final SplittableRandom random;
+
+    private VariantTask(final RuleSet rules, final SplittableRandom random) {
+      this.rules = rules;
+      this.random = random;
+    }
+
+    @Override
+    protected VariantResult compute() {
+      final RoundPlayer player = new RoundPlayer(rules, strategies.apply(rules), random);
+      final SimulationResult result = new SimulationResult();
+      do {
+        player.play(Math.min(batchRounds, maxRounds - result.getRounds()), result);
+      } while (result.getRounds() < maxRounds
+          && Z_95 * result.getStandardError() > targetHalfWidth);
+      return new VariantResult(rules, result);
+    }
+  }
+}
@@ -10,4 +10,5 @@ module com.frijolie.cards.blackjack {
   opens com.frijolie.cards.blackjack.model.cards;
   opens com.frijolie.cards.blackjack.model.game;
   opens com.frijolie.cards.blackjack.model.players;
+  opens com.frijolie.cards.blackjack.model.sim;
 }
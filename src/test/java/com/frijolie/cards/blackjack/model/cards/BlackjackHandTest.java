@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.frijolie.cards.blackjack.model.CardRandomizer;
 import com.frijolie.cards.blackjack.model.game.GameRules;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,12 @@ class BlackjackHandTest {
 
   @BeforeEach
   void setUp() {
-    hand = new BlackjackHand();
     GameRules.SPLITS_ALLOWED = true;
     GameRules.SPLIT_ON_VALUE = false;
     GameRules.DOUBLE_DOWN_ALLOWED = true;
     GameRules.OFFER_INSURANCE = true;
     GameRules.OFFER_SURRENDER = false;
+    hand = new BlackjackHand();
   }
 
   @AfterEach
@@ -225,6 +228,7 @@ class BlackjackHandTest {
   @Test
   void canSplit_TenKing_SplitOnValueIsTrue_CanSplitShouldBe_True() {
     GameRules.SPLIT_ON_VALUE = true;
+    hand = new BlackjackHand();
     hand.addCard(CardRandomizer.getCard(Rank.TEN));
     hand.addCard(CardRandomizer.getCard(Rank.KING));
     String message =
@@ -240,6 +244,7 @@ class BlackjackHandTest {
   @Test
   void canSplit_AceAce_SplitsAllowedIsFalseCanSplitShouldBe_False() {
     GameRules.SPLITS_ALLOWED = false;
+    hand = new BlackjackHand();
     hand.addCard(CardRandomizer.getCard(Rank.ACE));
     hand.addCard(CardRandomizer.getCard(Rank.ACE));
     String message = "Hand has pair. splits allowed is false. canSplit = false";
@@ -291,6 +296,7 @@ class BlackjackHandTest {
   @Test
   void canDouble_FiveFour_DoubleDownAllowedIsFalse_CanDoubleShouldBe_False() {
     GameRules.DOUBLE_DOWN_ALLOWED = false;
+    hand = new BlackjackHand();
     hand.addCard(CardRandomizer.getCard(Rank.FIVE));
     hand.addCard(CardRandomizer.getCard(Rank.FOUR));
     String message = "DoubleDownAllowed = false, can double should be false";
@@ -331,4 +337,44 @@ class BlackjackHandTest {
     hand.setHandState(HandState.INACTIVE);
     assertFalse(hand.canDouble(), message);
   }
+
+  @Test
+  void addCard_ScoreListenerShouldSeeEveryOtherStateAlreadyUpdated() {
+    message = "When the score changes, canHit and isBust should already reflect the new card";
+    hand.addCard(CardRandomizer.getCard(Rank.TEN));
+    hand.addCard(CardRandomizer.getCard(Rank.SIX));
+    List<Boolean> seen = new ArrayList<>();
+    hand.scoreProperty().addListener((observable, oldValue, score) -> {
+      seen.add(hand.canHit());
+      seen.add(hand.isBust());
+    });
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    assertEquals(List.of(false, true), seen, message);
+  }
+
+  @Test
+  void addCard_IsBustListenerShouldBeNotifiedOnce() {
+    message = "Busting the hand should notify an isBust listener exactly once";
+    List<Boolean> seen = new ArrayList<>();
+    hand.isBustProperty().addListener((observable, oldValue, isBust) -> seen.add(isBust));
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    hand.addCard(CardRandomizer.getCard(Rank.QUEEN));
+    hand.addCard(CardRandomizer.getCard(Rank.JACK));
+    assertEquals(List.of(true), seen, message);
+  }
+
+  @Test
+  void reset_ShouldEmptyTheHandAndPublishTheDefaults() {
+    message = "After a reset, the observable cards and every property should be cleared";
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    hand.addCard(CardRandomizer.getCard(Rank.QUEEN));
+    hand.addCard(CardRandomizer.getCard(Rank.JACK));
+    hand.reset();
+    assertAll(
+      message,
+      () -> assertEquals(0, hand.getCards().size()),
+      () -> assertEquals(0, hand.scoreProperty().get()),
+      () -> assertFalse(hand.isBustProperty().get()),
+      () -> assertEquals(HandState.ACTIVE, hand.getHandState()));
+  }
 }
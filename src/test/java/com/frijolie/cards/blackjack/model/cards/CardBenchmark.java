@@ -0,0 +1,82 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of comparing cards. Run with the GC profiler, the {@code gc.alloc.rate.norm}
+ * column reports the bytes allocated per call, which should be zero for every benchmark.
+ *
+ * <p>Run from the command line after {@code mvn test-compile}, with the test classpath, by calling
+ * {@link #main(String[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+
+  private Card first;
+  private Card second;
+
+  @Setup
+  public void setUp() {
+    first = Card.of(Rank.TEN, Suit.HEARTS);
+    second = Card.of(Rank.KING, Suit.DIAMONDS);
+  }
+
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  @Benchmark
+  public boolean sameRank() {
+    return first.sameRank(second);
+  }
+
+  @Benchmark
+  public boolean sameValue() {
+    return first.sameValue(second);
+  }
+
+  @Benchmark
+  public int hashCodeOfCard() {
+    return first.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsOfCard() {
+    return first.equals(second);
+  }
+
+  /**
+   * Runs every benchmark in this class with the GC profiler attached.
+   *
+   * @param args unused
+   * @throws RunnerException if the benchmarks cannot be run
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(CardBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build())
+        .run();
+  }
+}
@@ -2,6 +2,7 @@ package com.frijolie.cards.blackjack.model.cards;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -74,4 +75,25 @@ class CardTest {
   void compareTo_SendingNullCardShouldThrowNPE() {
     assertThrows(NullPointerException.class, () -> tenOfDiamonds.compareTo(null));
   }
+
+  @Test
+  void of_SameRankAndSuitShouldReturnSameInstance() {
+    assertSame(Card.of(Rank.TEN, Suit.HEARTS), Card.of(Rank.TEN, Suit.HEARTS));
+  }
+
+  @Test
+  void of_CodeShouldReturnCardWithThatCode() {
+    Card card = Card.of(Rank.QUEEN, Suit.SPADES);
+    assertSame(card, Card.of(card.getCode()));
+  }
+
+  @Test
+  void getCode_ShouldBeRankOrdinalTimesFourPlusSuitOrdinal() {
+    assertEquals(Rank.TEN.ordinal() * 4 + Suit.HEARTS.ordinal(), tenOfHearts.getCode());
+  }
+
+  @Test
+  void of_CodeOutOfRangeShouldThrowIAE() {
+    assertThrows(IllegalArgumentException.class, () -> Card.of(52));
+  }
 }
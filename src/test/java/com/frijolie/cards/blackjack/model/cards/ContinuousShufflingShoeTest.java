@@ -0,0 +1,81 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContinuousShufflingShoeTest {
+
+  private ContinuousShufflingShoe shoe;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    shoe = new ContinuousShufflingShoe(2, new SplittableRandom(3L));
+  }
+
+  @AfterEach
+  void tearDown() {
+    shoe = null;
+  }
+
+  @Test
+  void constructor_MachineShouldContainTwoOfEveryCard() {
+    message = "A machine loaded with two decks should hold two copies of every card";
+    assertAll(
+      message,
+      () -> assertEquals(104, shoe.remaining()),
+      () -> assertEquals(2, shoe.count(Card.of(Rank.ACE, Suit.SPADES))),
+      () -> assertEquals(2, shoe.count(Card.of(Rank.TWO, Suit.CLUBS))));
+  }
+
+  @Test
+  void deal_ShouldRemoveTheDealtCardFromTheMachine() {
+    message = "After dealing a card, one fewer copy of it should be in the machine";
+    Card card = shoe.deal();
+    assertAll(
+      message,
+      () -> assertEquals(103, shoe.remaining()),
+      () -> assertEquals(1, shoe.count(card)));
+  }
+
+  @Test
+  void deal_DealingEveryCardShouldDealEachCopyOnce() {
+    message = "Emptying the machine should deal every copy of every card exactly once";
+    int[] frequency = new int[52];
+    while (shoe.remaining() > 0) {
+      frequency[shoe.dealCode()]++;
+    }
+    for (int count : frequency) {
+      assertEquals(2, count, message);
+    }
+    assertThrows(NoSuchElementException.class, () -> shoe.deal(), message);
+  }
+
+  @Test
+  void discardAll_ShouldReturnTheCardsToTheMachine() {
+    message = "Discarded cards should be returned to the machine";
+    List<Card> round = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      round.add(shoe.deal());
+    }
+    shoe.discardAll(round);
+    assertEquals(104, shoe.remaining(), message);
+  }
+
+  @Test
+  void discard_ReturningACardNeverDealtShouldThrowISE() {
+    message = "Returning a card which was never dealt should throw ISE";
+    assertThrows(IllegalStateException.class,
+      () -> shoe.discard(Card.of(Rank.KING, Suit.HEARTS)), message);
+  }
+}
@@ -0,0 +1,102 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CountTrackerTest {
+
+  private CountTracker tracker;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new CountTracker(CountingSystem.HI_LO, 6);
+  }
+
+  @AfterEach
+  void tearDown() {
+    tracker = null;
+  }
+
+  @Test
+  void constructor_BalancedSystemShouldStartAtZero() {
+    message = "A balanced system should start its running count at zero";
+    assertAll(
+      message,
+      () -> assertTrue(CountingSystem.HI_LO.isBalanced()),
+      () -> assertTrue(CountingSystem.OMEGA_II.isBalanced()),
+      () -> assertEquals(0, tracker.getRunningCount(), message),
+      () -> assertEquals(6.0, tracker.getDecksRemaining(), message));
+  }
+
+  @Test
+  void constructor_KoShouldStartAtMinusFourPerExtraDeck() {
+    message = "KO should start its running count at -4 for each deck beyond the first";
+    assertAll(
+      message,
+      () -> assertFalse(CountingSystem.KO.isBalanced()),
+      () -> assertEquals(0, new CountTracker(CountingSystem.KO, 1).getRunningCount(), message),
+      () -> assertEquals(-20, new CountTracker(CountingSystem.KO, 6).getRunningCount(), message));
+  }
+
+  @Test
+  void constructor_WrongNumberOfTagsShouldThrowIAE() {
+    message = "A counting system needs a tag for each value from 2 to 11";
+    assertThrows(IllegalArgumentException.class, () -> new CountingSystem("Short", 1, 1, 1),
+        message);
+  }
+
+  @Test
+  void count_RunningCountShouldBeTheSumOfTags() {
+    message = "The running count should be the sum of the tags of the counted cards";
+    tracker.count(2);
+    tracker.count(5);
+    tracker.count(10);
+    tracker.count(11);
+    tracker.count(4);
+    tracker.count(8);
+    assertEquals(1, tracker.getRunningCount(), message);
+  }
+
+  @Test
+  void getTrueCount_ShouldDivideByDecksRemaining() {
+    message = "The true count should be the running count per deck remaining";
+    for (int i = 0; i < 2 * 52; i++) {
+      tracker.count(i < 12 ? 3 : 8);
+    }
+    assertAll(
+      message,
+      () -> assertEquals(4.0, tracker.getDecksRemaining(), 1e-9, message),
+      () -> assertEquals(3.0, tracker.getTrueCount(), 1e-9, message));
+  }
+
+  @Test
+  void getDecksRemaining_ShouldNeverBeLessThanHalfADeck() {
+    message = "The decks remaining should never be taken as less than half a deck";
+    CountTracker single = new CountTracker(CountingSystem.HI_LO, 1);
+    for (int i = 0; i < 52; i++) {
+      single.count(8);
+    }
+    assertEquals(0.5, single.getDecksRemaining(), message);
+  }
+
+  @Test
+  void reset_ShouldRestoreTheInitialCount() {
+    message = "Resetting should restore the count of a freshly shuffled shoe";
+    CountTracker ko = new CountTracker(CountingSystem.KO, 2);
+    ko.count(2);
+    ko.count(3);
+    ko.reset();
+    assertAll(
+      message,
+      () -> assertEquals(-4, ko.getRunningCount(), message),
+      () -> assertEquals(2.0, ko.getDecksRemaining(), message));
+  }
+}
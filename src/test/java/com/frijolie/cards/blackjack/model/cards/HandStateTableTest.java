@@ -0,0 +1,90 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class HandStateTableTest {
+
+  private static int stateOf(int... values) {
+    int state = HandStateTable.EMPTY;
+    for (int value : values) {
+      state = HandStateTable.next(state, value);
+    }
+    return state;
+  }
+
+  @Test
+  void next_AceTen_ShouldBeBlackjack() {
+    assertAll(
+      "A + T and T + A should both be blackjack",
+      () -> assertEquals(HandStateTable.BLACKJACK, stateOf(11, 10)),
+      () -> assertEquals(HandStateTable.BLACKJACK, stateOf(10, 11)));
+  }
+
+  @Test
+  void next_EightEight_ShouldBePairOfEights() {
+    int state = stateOf(8, 8);
+    assertAll(
+      "8 + 8 should be a pair of eights worth 16",
+      () -> assertTrue(HandStateTable.isPair(state)),
+      () -> assertEquals(8, HandStateTable.pairValue(state)),
+      () -> assertEquals(16, HandStateTable.total(state)));
+  }
+
+  @Test
+  void next_TwoThreeFive_ShouldBeHardTenNotPair() {
+    assertEquals(HandStateTable.hard(10), stateOf(2, 3, 5));
+  }
+
+  @Test
+  void next_AceAceFive_ShouldBeSoft17() {
+    assertEquals(HandStateTable.soft(17), stateOf(11, 11, 5));
+  }
+
+  @Test
+  void next_TenSixAce_ShouldBeHard17() {
+    assertEquals(HandStateTable.hard(17), stateOf(10, 6, 11));
+  }
+
+  @Test
+  void next_TenSixNine_ShouldBeBust() {
+    assertEquals(HandStateTable.BUST, stateOf(10, 6, 9));
+  }
+
+  @Test
+  void next_ShouldAgreeWithTheScoreOfAHeadlessHand() {
+    String message = "The state table and a HeadlessHand should score every hand the same";
+    SplittableRandom random = new SplittableRandom(11L);
+    for (int trial = 0; trial < 10_000; trial++) {
+      HeadlessHand hand = new HeadlessHand();
+      int state = HandStateTable.EMPTY;
+      while (!hand.isBust() && !hand.hasBlackjack()) {
+        Card card = Card.of(random.nextInt(52));
+        hand.addCard(card);
+        state = HandStateTable.next(state, card.getValue());
+        if (!hand.isBust()) {
+          assertEquals(hand.getScore(), HandStateTable.total(state), message);
+          assertEquals(hand.isSoftTotal(), HandStateTable.isSoft(state), message);
+        }
+      }
+      assertEquals(hand.getStateId(), state, message);
+    }
+  }
+
+  @Test
+  void dealerMustHit_Soft17DependsOnTheRule() {
+    int soft17 = stateOf(11, 6);
+    assertAll(
+      "The dealer should hit soft 17 only when the rule says so",
+      () -> assertTrue(HandStateTable.dealerMustHit(soft17, true)),
+      () -> assertFalse(HandStateTable.dealerMustHit(soft17, false)),
+      () -> assertFalse(HandStateTable.dealerMustHit(stateOf(10, 7), true)),
+      () -> assertTrue(HandStateTable.dealerMustHit(stateOf(10, 6), false)));
+  }
+}
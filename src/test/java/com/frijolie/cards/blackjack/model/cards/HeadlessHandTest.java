@@ -0,0 +1,173 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.CardRandomizer;
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HeadlessHandTest {
+
+  private HeadlessHand hand;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    GameRules.SPLITS_ALLOWED = true;
+    GameRules.SPLIT_ON_VALUE = false;
+    GameRules.DOUBLE_DOWN_ALLOWED = true;
+    hand = new HeadlessHand();
+  }
+
+  @AfterEach
+  void tearDown() {
+    hand = null;
+  }
+
+  @Test
+  void addCard_ShouldThrowNPEWhenPassedANullArg() {
+    message = "Should throw NullPointerException when a null arg is passed";
+    assertThrows(NullPointerException.class, () -> hand.addCard(null), message);
+  }
+
+  @Test
+  void addCard_AceKing_ShouldHaveBlackjackAndBeInactive() {
+    message = "A + K should have blackjack, and the hand should become inactive";
+    hand.addCard(CardRandomizer.getCard(Rank.ACE));
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    assertAll(
+      message,
+      () -> assertEquals(21, hand.getScore()),
+      () -> assertTrue(hand.hasBlackjack()),
+      () -> assertFalse(hand.canHit()),
+      () -> assertEquals(HandState.INACTIVE, hand.getHandState()));
+  }
+
+  @Test
+  void addCard_KingQueenJack_ShouldBeBustAndInactive() {
+    message = "K + Q + J should be BUST, and the hand should become inactive";
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    hand.addCard(CardRandomizer.getCard(Rank.QUEEN));
+    hand.addCard(CardRandomizer.getCard(Rank.JACK));
+    assertAll(
+      message,
+      () -> assertTrue(hand.isBust()),
+      () -> assertEquals(HandState.INACTIVE, hand.getHandState()));
+  }
+
+  @Test
+  void addCard_EightEight_ShouldBeSplittableAndNotSoft() {
+    message = "8 + 8 should be splittable and should not be soft";
+    hand.addCard(CardRandomizer.getCard(Rank.EIGHT));
+    hand.addCard(CardRandomizer.getCard(Rank.EIGHT));
+    assertAll(
+      message,
+      () -> assertTrue(hand.canSplit()),
+      () -> assertFalse(hand.isSoft()),
+      () -> assertFalse(hand.canDouble()));
+  }
+
+  @Test
+  void getCards_ShouldReturnTheCardsInOrderAndBeReadOnly() {
+    message = "The cards should be returned in the order they were added, and be read-only";
+    Card first = Card.of(Rank.FIVE, Suit.CLUBS);
+    Card second = Card.of(Rank.SIX, Suit.HEARTS);
+    hand.addCard(first);
+    hand.addCard(second);
+    assertAll(
+      message,
+      () -> assertEquals(first, hand.getCards().get(0)),
+      () -> assertEquals(second, hand.getCards().get(1)),
+      () -> assertThrows(UnsupportedOperationException.class, () -> hand.getCards().clear()));
+  }
+
+  @Test
+  void isSoftTotal_AceAceFive_ShouldBeSoft17() {
+    message = "A + A + 5 should be a soft 17 with a hard total of 7";
+    hand.addCard(CardRandomizer.getCard(Rank.ACE));
+    hand.addCard(CardRandomizer.getCard(Rank.ACE));
+    hand.addCard(CardRandomizer.getCard(Rank.FIVE));
+    assertAll(
+      message,
+      () -> assertEquals(17, hand.getScore()),
+      () -> assertEquals(7, hand.getHardTotal()),
+      () -> assertEquals(17, hand.getSoftTotal()),
+      () -> assertTrue(hand.isSoftTotal()));
+  }
+
+  @Test
+  void isSoftTotal_TenSixAce_ShouldBeHard17() {
+    message = "T + 6 + A should be a hard 17";
+    hand.addCard(CardRandomizer.getCard(Rank.TEN));
+    hand.addCard(CardRandomizer.getCard(Rank.SIX));
+    hand.addCard(CardRandomizer.getCard(Rank.ACE));
+    assertAll(
+      message,
+      () -> assertEquals(17, hand.getScore()),
+      () -> assertEquals(17, hand.getHardTotal()),
+      () -> assertEquals(27, hand.getSoftTotal()),
+      () -> assertFalse(hand.isSoftTotal()));
+  }
+
+  @Test
+  void reset_ShouldEmptyTheHandAndRestoreDefaults() {
+    message = "After a reset, the hand should be empty, active and have no result";
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    hand.addCard(CardRandomizer.getCard(Rank.QUEEN));
+    hand.addCard(CardRandomizer.getCard(Rank.JACK));
+    hand.setHandResult(HandResult.BUST);
+    hand.reset();
+    assertAll(
+      message,
+      () -> assertEquals(0, hand.getCards().size()),
+      () -> assertEquals(0, hand.getScore()),
+      () -> assertFalse(hand.isBust()),
+      () -> assertEquals(HandStateTable.EMPTY, hand.getStateId()),
+      () -> assertEquals(HandResult.TBD, hand.getHandResult()),
+      () -> assertEquals(HandState.ACTIVE, hand.getHandState()));
+  }
+
+  @Test
+  void ruleSetConstructor_ShouldIgnoreChangesToGameRules() {
+    message = "A hand created with a RuleSet should not read GameRules";
+    RuleSet rules = new RuleSet(6, 0.75, true, true, false, BigDecimal.TEN, false, true, true);
+    HeadlessHand ruledHand = new HeadlessHand(rules);
+    GameRules.DOUBLE_DOWN_ALLOWED = true;
+    GameRules.SPLIT_ON_VALUE = false;
+    ruledHand.addCard(CardRandomizer.getCard(Rank.FIVE));
+    ruledHand.addCard(CardRandomizer.getCard(Rank.FIVE));
+    hand.addCard(CardRandomizer.getCard(Rank.KING));
+    hand.addCard(CardRandomizer.getCard(Rank.QUEEN));
+    assertAll(
+      message,
+      () -> assertFalse(ruledHand.canDouble()),
+      () -> assertTrue(ruledHand.canSplit()),
+      () -> assertFalse(hand.canSplit()));
+  }
+
+  @Test
+  void noArgConstructor_ShouldKeepTheGameRulesItWasCreatedWith() {
+    message = "A hand created without a RuleSet should keep a snapshot of GameRules";
+    GameRules.DOUBLE_DOWN_ALLOWED = false;
+    hand.addCard(CardRandomizer.getCard(Rank.FIVE));
+    hand.addCard(CardRandomizer.getCard(Rank.FIVE));
+    GameRules.DOUBLE_DOWN_ALLOWED = true;
+    assertTrue(hand.canDouble(), message);
+  }
+
+  @Test
+  void ruleSetConstructor_ShouldThrowNPEWhenPassedANullArg() {
+    message = "Should throw NullPointerException when a null RuleSet is passed";
+    assertThrows(NullPointerException.class, () -> new HeadlessHand(null), message);
+  }
+}
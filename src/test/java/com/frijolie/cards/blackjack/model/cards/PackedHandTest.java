@@ -0,0 +1,108 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PackedHandTest {
+
+  private PackedHand hand;
+
+  @BeforeEach
+  void setUp() {
+    hand = new PackedHand();
+  }
+
+  @AfterEach
+  void tearDown() {
+    hand = null;
+  }
+
+  private void add(Rank rank) {
+    hand.addCard(Card.of(rank, Suit.SPADES).getCode());
+  }
+
+  @Test
+  void getScore_AceKing_ShouldEqual_21AndHaveBlackjack() {
+    add(Rank.ACE);
+    add(Rank.KING);
+    assertAll(
+      "A + K should be a soft 21 and blackjack",
+      () -> assertEquals(21, hand.getScore()),
+      () -> assertTrue(hand.isSoft()),
+      () -> assertTrue(hand.hasBlackjack()));
+  }
+
+  @Test
+  void getScore_AceAceFour_ShouldEqual_16() {
+    add(Rank.ACE);
+    add(Rank.ACE);
+    add(Rank.FOUR);
+    assertAll(
+      "A + A + 4 should be a soft 16 with a hard total of 6",
+      () -> assertEquals(16, hand.getScore()),
+      () -> assertEquals(6, hand.getHardTotal()),
+      () -> assertTrue(hand.isSoft()));
+  }
+
+  @Test
+  void getScore_TenEightAceAce_ShouldEqual_20() {
+    add(Rank.TEN);
+    add(Rank.EIGHT);
+    add(Rank.ACE);
+    add(Rank.ACE);
+    assertAll(
+      "T + 8 + A + A should be a hard 20",
+      () -> assertEquals(20, hand.getScore()),
+      () -> assertFalse(hand.isSoft()),
+      () -> assertFalse(hand.isBust()));
+  }
+
+  @Test
+  void isBust_KingThreeSevenSix_ShouldBeTrue() {
+    add(Rank.KING);
+    add(Rank.THREE);
+    add(Rank.SEVEN);
+    add(Rank.SIX);
+    assertTrue(hand.isBust());
+  }
+
+  @Test
+  void clear_ShouldEmptyTheHand() {
+    add(Rank.ACE);
+    hand.clear();
+    assertAll(
+      "After clearing, the hand should be empty",
+      () -> assertEquals(0, hand.size()),
+      () -> assertEquals(0, hand.getScore()),
+      () -> assertFalse(hand.isSoft()));
+  }
+
+  @Test
+  void toHand_ShouldHoldTheSameCardsAndScore() {
+    add(Rank.NINE);
+    add(Rank.ACE);
+    Hand converted = hand.toHand();
+    assertAll(
+      "A converted hand should hold the same cards and score",
+      () -> assertEquals(hand.toString(), converted.toString()),
+      () -> assertEquals(hand.getScore(), converted.getScore()));
+  }
+
+  @Test
+  void of_ShouldHoldTheSameCardsAndScore() {
+    BlackjackHand source = new BlackjackHand();
+    source.addCard(Card.of(Rank.FIVE, Suit.HEARTS));
+    source.addCard(Card.of(Rank.SIX, Suit.CLUBS));
+    PackedHand packed = PackedHand.of(source);
+    assertAll(
+      "A packed hand should hold the same cards and score",
+      () -> assertEquals(source.toString(), packed.toString()),
+      () -> assertEquals(source.getScore(), packed.getScore()));
+  }
+}
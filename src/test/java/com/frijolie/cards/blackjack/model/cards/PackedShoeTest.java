@@ -0,0 +1,119 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PackedShoeTest {
+
+  private PackedShoe shoe;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    shoe = new PackedShoe();
+  }
+
+  @AfterEach
+  void tearDown() {
+    shoe = null;
+  }
+
+  @Test
+  void noArgConstructor_ShoeShouldContain156Cards() {
+    message = "The no-arg constructor should populate the shoe with 156 cards";
+    assertEquals(3 * 52, shoe.remaining(), message);
+  }
+
+  @Test
+  void argConstructor_ShoeShouldContainFourOfEveryCardPerDeck() {
+    message = "A shoe with four decks should contain every card four times";
+    int[] frequency = new int[52];
+    PackedShoe fourDecks = new PackedShoe(4);
+    while (fourDecks.remaining() > 0) {
+      frequency[fourDecks.deal()]++;
+    }
+    for (int count : frequency) {
+      assertEquals(4, count, message);
+    }
+  }
+
+  @Test
+  void deal_AfterShoeIsEmptyTryingToDealThrowsNSE() {
+    message = "If the PackedShoe is empty, and you try to deal, should throw NSE";
+    assertThrows(
+      NoSuchElementException.class,
+      () -> {
+        while (shoe.remaining() > 0) {
+          shoe.deal();
+        }
+        shoe.deal();
+      },
+      message);
+  }
+
+  @Test
+  void of_ShouldDealTheSameCardsAsTheShoe() {
+    message = "A PackedShoe converted from a Shoe should deal the same cards in the same order";
+    Shoe source = new Shoe(1);
+    source.deal();
+    List<Card> expected = List.copyOf(source.getCards());
+    PackedShoe packed = PackedShoe.of(source);
+    assertEquals(51, packed.remaining(), message);
+    for (Card card : expected) {
+      assertSame(card, Card.of(packed.deal()), message);
+    }
+  }
+
+  @Test
+  void toShoe_ShouldDealTheSameCardsAsThePackedShoe() {
+    message = "A Shoe converted from a PackedShoe should deal the same cards in the same order";
+    List<Card> expected = shoe.toCards();
+    Shoe converted = shoe.toShoe();
+    assertEquals(expected.size(), converted.remaining(), message);
+    for (Card card : expected) {
+      assertSame(card, converted.deal(), message);
+    }
+  }
+
+  @Test
+  void seededConstructor_ShoesWithTheSameSeedShouldDealTheSameCards() {
+    message = "Two shoes created with the same seed should deal the same cards in the same order";
+    assertEquals(new PackedShoe(6, 7L).toCards(), new PackedShoe(6, 7L).toCards(), message);
+  }
+
+  @Test
+  void reshuffleDiscards_CardsInPlayShouldNotBeDealtAgain() {
+    message = "After reshuffling the discards, every card but those in play should be dealt";
+    PackedShoe oneDeck = new PackedShoe(1, 3L);
+    List<Card> dealt = oneDeck.toCards();
+    List<Card> held = dealt.subList(dealt.size() - 3, dealt.size());
+    while (oneDeck.remaining() > 0) {
+      oneDeck.deal();
+    }
+    oneDeck.reshuffleDiscards(held.size());
+    List<Card> reshuffled = oneDeck.toCards();
+    assertAll(
+      message,
+      () -> assertEquals(49, oneDeck.remaining()),
+      () -> assertEquals(49, new HashSet<>(reshuffled).size()),
+      () -> assertFalse(reshuffled.stream().anyMatch(held::contains)));
+  }
+
+  @Test
+  void reshuffleDiscards_MoreCardsInPlayThanDealtShouldThrowIAE() {
+    message = "Holding back more cards than have been dealt should throw IAE";
+    shoe.deal();
+    assertThrows(IllegalArgumentException.class, () -> shoe.reshuffleDiscards(2), message);
+  }
+}
@@ -0,0 +1,99 @@
+package com.frijolie.cards.blackjack.model.cards;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShoeCompositionTest {
+
+  private ShoeComposition composition;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    composition = new ShoeComposition(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    composition = null;
+  }
+
+  @Test
+  void constructor_OneDeckShouldHoldFourOfEachValueAndSixteenTens() {
+    message = "A single deck should hold 4 of each value and 16 ten-valued cards";
+    assertAll(
+      message,
+      () -> assertEquals(52, composition.total()),
+      () -> assertEquals(4, composition.count(2)),
+      () -> assertEquals(16, composition.count(10)),
+      () -> assertEquals(4, composition.count(11)));
+  }
+
+  @Test
+  void probability_OfTenShouldBeFourThirteenths() {
+    message = "The probability of a ten-valued card from a full deck should be 4/13";
+    assertEquals(4.0 / 13, composition.probability(Rank.KING), 1e-12, message);
+  }
+
+  @Test
+  void remove_ThenRestoreShouldReturnTheSameCounts() {
+    message = "Removing then restoring a value should leave the counts unchanged";
+    composition.remove(11);
+    assertEquals(3, composition.count(11), message);
+    composition.restore(11);
+    assertAll(
+      message,
+      () -> assertEquals(4, composition.count(11)),
+      () -> assertEquals(52, composition.total()));
+  }
+
+  @Test
+  void remove_WhenNoCardOfThatValueRemainsShouldThrowISE() {
+    message = "Removing a value which is exhausted should throw ISE";
+    for (int i = 0; i < 4; i++) {
+      composition.remove(5);
+    }
+    assertThrows(IllegalStateException.class, () -> composition.remove(5), message);
+  }
+
+  @Test
+  void copy_ShouldBeIndependentOfTheOriginal() {
+    message = "A copy should not change when the original does";
+    ShoeComposition copy = composition.copy();
+    composition.remove(2);
+    assertEquals(4, copy.count(2), message);
+  }
+
+  @Test
+  void shoe_CompositionShouldTrackDealtCards() {
+    message = "The shoe composition should reflect every card dealt";
+    Shoe shoe = new Shoe(2);
+    Card card = shoe.deal();
+    assertAll(
+      message,
+      () -> assertEquals(shoe.remaining(), shoe.getComposition().total()),
+      () -> assertEquals(card.getValue() == 10 ? 31 : 7,
+        shoe.getComposition().count(card.getValue())));
+  }
+
+  @Test
+  void pack_ShouldBeEqualOnlyForEqualCounts() {
+    message = "Compositions with the same counts should pack to the same value, others should not";
+    ShoeComposition eightDecks = new ShoeComposition(8);
+    ShoeComposition other = new ShoeComposition(8);
+    long full = eightDecks.pack();
+    eightDecks.remove(10);
+    other.remove(11);
+    assertAll(
+      message,
+      () -> assertEquals(full, new ShoeComposition(8).pack()),
+      () -> assertNotEquals(full, eightDecks.pack()),
+      () -> assertNotEquals(eightDecks.pack(), other.pack()));
+  }
+}
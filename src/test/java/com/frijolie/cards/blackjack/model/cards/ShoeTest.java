@@ -2,11 +2,20 @@ package com.frijolie.cards.blackjack.model.cards;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.frijolie.cards.blackjack.model.game.GameRules;
 
-import java.util.NoSuchElementException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,14 +83,193 @@ class ShoeTest {
   }
 
   @Test
-  void deal_AfterShoeIsEmptyTryingToDealThrowsNSE() {
-    message = "If the Shoe is empty, and you try to deal, should throw NSE";
-    assertThrows(
-      NoSuchElementException.class,
-      () -> {
-        shoe.getCards().clear();
-        shoe.deal();
-      },
-      message);
+  void deal_AfterCutCardIsReachedRoundShouldContinueFromTheSameShoe() {
+    message = "Reaching the cut card should not replace the shoe before the round ends";
+    Shoe halfShoe = new Shoe(1, 0.5, new SplittableRandom(1L));
+    for (int i = 0; i < 26; i++) {
+      halfShoe.deal();
+    }
+    int count = halfShoe.getCountTracker().getRunningCount();
+    int value = halfShoe.deal().getValue();
+    assertAll(
+      message,
+      () -> assertTrue(halfShoe.isCutCardReached()),
+      () -> assertEquals(25, halfShoe.remaining()),
+      () -> assertEquals(25, halfShoe.getComposition().total()),
+      () -> assertEquals(count + CountingSystem.HI_LO.tag(value),
+          halfShoe.getCountTracker().getRunningCount()));
+  }
+
+  @Test
+  void endRound_AfterCutCardIsReachedShoeShouldBeReplaced() {
+    message = "After the cut card is reached, the shoe should be replaced when the round ends";
+    Shoe halfShoe = new Shoe(1, 0.5, new SplittableRandom(1L));
+    for (int i = 0; i < 26; i++) {
+      halfShoe.deal();
+    }
+    halfShoe.endRound();
+    assertAll(
+      message,
+      () -> assertFalse(halfShoe.isCutCardReached()),
+      () -> assertEquals(52, halfShoe.remaining()),
+      () -> assertEquals(52, halfShoe.getComposition().total()),
+      () -> assertEquals(0, halfShoe.getCountTracker().getRunningCount()));
+  }
+
+  @Test
+  void endRound_BeforeCutCardIsReachedShoeShouldNotBeReplaced() {
+    message = "Ending a round before the cut card is reached should keep dealing the same shoe";
+    shoe.deal();
+    shoe.endRound();
+    assertEquals(155, shoe.remaining(), message);
+  }
+
+  @Test
+  void deal_EmptyShoeShouldReshuffleOnlyTheDiscards() {
+    message = "A shoe which runs dry mid-round should reshuffle the discards, not the cards dealt";
+    Shoe fullShoe = new Shoe(1, 1.0, new SplittableRandom(1L));
+    for (int i = 0; i < 48; i++) {
+      fullShoe.deal();
+    }
+    fullShoe.endRound();
+    List<Card> inPlay = new ArrayList<>();
+    int count = 0;
+    for (int i = 0; i < 4; i++) {
+      inPlay.add(fullShoe.deal());
+      count += CountingSystem.HI_LO.tag(inPlay.get(i).getValue());
+    }
+    int expected = count;
+    Card next = fullShoe.deal();
+    List<Card> remaining = fullShoe.getCards();
+    assertAll(
+      message,
+      () -> assertFalse(inPlay.contains(next)),
+      () -> assertTrue(remaining.stream().noneMatch(inPlay::contains)),
+      () -> assertEquals(47, fullShoe.remaining()),
+      () -> assertEquals(47, fullShoe.getComposition().total()),
+      () -> assertEquals(expected + CountingSystem.HI_LO.tag(next.getValue()),
+          fullShoe.getCountTracker().getRunningCount()),
+      () -> assertTrue(fullShoe.isCutCardReached()));
+  }
+
+  @Test
+  void deal_EveryCardInPlayShouldReplaceTheShoe() {
+    message = "A shoe which runs dry with every card in play should be replaced";
+    Shoe fullShoe = new Shoe(1, 1.0, new SplittableRandom(1L));
+    for (int i = 0; i < 52; i++) {
+      fullShoe.deal();
+    }
+    assertAll(
+      message,
+      () -> assertNotNull(fullShoe.deal()),
+      () -> assertEquals(51, fullShoe.remaining()),
+      () -> assertFalse(fullShoe.isCutCardReached()));
+  }
+
+  @Test
+  void deal_FullPenetrationShouldDealEveryCardBeforeReplacing() {
+    message = "With full penetration, every card should be dealt before the shoe is replaced";
+    Shoe fullShoe = new Shoe(2, 1.0, new SplittableRandom(1L));
+    Map<Card, Long> frequency = new HashMap<>();
+    for (int i = 0; i < 104; i++) {
+      frequency.merge(fullShoe.deal(), 1L, Long::sum);
+    }
+    assertAll(
+      message,
+      () -> assertEquals(52, frequency.size()),
+      () -> assertTrue(frequency.values().stream().allMatch(count -> count == 2)),
+      () -> assertEquals(0, fullShoe.remaining()));
+  }
+
+  @Test
+  void argConstructor_PenetrationOutOfRangeShouldThrowIAE() {
+    message = "A penetration which is not between 0 and 1 should throw IAE";
+    assertAll(
+      message,
+      () -> assertThrows(IllegalArgumentException.class,
+        () -> new Shoe(1, 0, new SplittableRandom())),
+      () -> assertThrows(IllegalArgumentException.class,
+        () -> new Shoe(1, 1.5, new SplittableRandom())));
+  }
+
+  @Test
+  void remaining_AfterDealingCardRemainingShouldHaveDecreasedByOne() {
+    message = "After dealing a card the remaining count should have decreased by one";
+    shoe.deal();
+    assertEquals(155, shoe.remaining(), message);
+  }
+
+  @Test
+  void getCards_ViewShouldBeReadOnly() {
+    message = "The cards returned by the shoe should not be modifiable";
+    assertThrows(UnsupportedOperationException.class, () -> shoe.getCards().clear(), message);
+  }
+
+  @Test
+  void getCards_ViewShouldStartWithNextCardToBeDealt() {
+    message = "The first card in the view should be the next card dealt";
+    Card next = shoe.getCards().get(0);
+    assertSame(next, shoe.deal(), message);
+  }
+
+  @Test
+  void constructor_ShoeShouldReferenceCanonicalCards() {
+    message = "Every card in the shoe should be the shared instance from Card.of";
+    Card card = shoe.deal();
+    assertSame(Card.of(card.getRank(), card.getSuit()), card, message);
+  }
+
+  @Test
+  void seededConstructor_ShoesWithTheSameSeedShouldDealTheSameCards() {
+    message = "Two shoes created with the same seed should deal the same cards in the same order";
+    assertEquals(new Shoe(6, 42L).getCards(), new Shoe(6, 42L).getCards(), message);
+  }
+
+  @Test
+  void seededConstructor_ShoesWithDifferentSeedsShouldDealDifferentCards() {
+    message = "Two shoes created with different seeds should not deal the same cards";
+    assertNotEquals(new Shoe(6, 42L).getCards(), new Shoe(6, 43L).getCards(), message);
+  }
+
+  @Test
+  void getCountTracker_RunningCountShouldMatchTheDealtCards() {
+    message = "The Hi-Lo count should match the tags of every card dealt from the shoe";
+    int expected = 0;
+    for (int i = 0; i < 40; i++) {
+      expected += CountingSystem.HI_LO.tag(shoe.deal().getValue());
+    }
+    assertEquals(expected, shoe.getCountTracker().getRunningCount(), message);
+  }
+
+  @Test
+  void track_ShouldCountCardsAlreadyDealt() {
+    message = "A tracker added mid-shoe should include the cards already dealt";
+    int expected = CountingSystem.KO.initialCount(3);
+    for (int i = 0; i < 20; i++) {
+      expected += CountingSystem.KO.tag(shoe.deal().getValue());
+    }
+    CountTracker ko = shoe.track(CountingSystem.KO);
+    for (int i = 0; i < 20; i++) {
+      expected += CountingSystem.KO.tag(shoe.deal().getValue());
+    }
+    assertEquals(expected, ko.getRunningCount(), message);
+  }
+
+  @Test
+  void replace_ShouldResetEveryTracker() {
+    message = "Replacing the shoe should reset the count of every tracker to the first card dealt";
+    Shoe halfShoe = new Shoe(2, 0.5, new SplittableRandom(1L));
+    CountTracker ko = halfShoe.track(CountingSystem.KO);
+    for (int i = 0; i < 52; i++) {
+      halfShoe.deal();
+    }
+    halfShoe.endRound();
+    int value = halfShoe.deal().getValue();
+    assertAll(
+      message,
+      () -> assertEquals(CountingSystem.HI_LO.tag(value),
+          halfShoe.getCountTracker().getRunningCount(), message),
+      () -> assertEquals(-4 + CountingSystem.KO.tag(value), ko.getRunningCount(), message),
+      () -> assertEquals(103.0 / 52, ko.getDecksRemaining(), 1e-9, message));
   }
 }
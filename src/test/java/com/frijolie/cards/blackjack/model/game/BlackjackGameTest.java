@@ -2,7 +2,20 @@ package com.frijolie.cards.blackjack.model.game;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.cards.Card;
+import com.frijolie.cards.blackjack.model.cards.Hand;
+import com.frijolie.cards.blackjack.model.cards.HandResult;
+import com.frijolie.cards.blackjack.model.players.BlackjackPlayer;
+import com.frijolie.cards.blackjack.model.players.Wallet;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +27,9 @@ class BlackjackGameTest {
 
   @BeforeEach
   void setUp() {
-    game = new BlackjackGame();
     GameRules.OFFER_INSURANCE = true;
     GameRules.OFFER_SURRENDER = false;
+    game = new BlackjackGame();
   }
 
   @AfterEach
@@ -56,4 +69,126 @@ class BlackjackGameTest {
       () -> assertEquals(2, game.getPlayer().getHand().getCards().size()),
       () -> assertEquals(2, game.getDealer().getHand().getCards().size()));
   }
+
+  @Test
+  void newGame_shouldReuseHandsAndDealTwoCardsEach() {
+    Hand playerHand = game.getPlayer().getHand();
+    Hand dealerHand = game.getDealer().getHand();
+    for (int round = 0; round < 100; round++) {
+      game.newGame();
+      assertAll(
+        "Every round should reuse the same hands and deal two cards to each",
+        () -> assertSame(playerHand, game.getPlayer().getHand()),
+        () -> assertSame(dealerHand, game.getDealer().getHand()),
+        () -> assertEquals(2, playerHand.getCards().size()),
+        () -> assertEquals(2, dealerHand.getCards().size()));
+    }
+  }
+
+  @Test
+  void newGame_playerShouldBeActiveUnlessDealtBlackjack() {
+    for (int round = 0; round < 100; round++) {
+      game.newGame();
+      Hand playerHand = game.getPlayer().getHand();
+      assertEquals(!playerHand.hasBlackjack(), game.getPlayer().isActive(),
+          "After a new round, the player should be active unless dealt blackjack");
+    }
+  }
+
+  @Test
+  void seatsConstructor_EverySeatShouldHaveTwoCards() {
+    BlackjackGame table = new BlackjackGame(RuleSet.fromGameRules(), GameRules.MAX_SEATS);
+    assertEquals(GameRules.MAX_SEATS, table.getNumberOfSeats());
+    for (int seat = 0; seat < table.getNumberOfSeats(); seat++) {
+      assertEquals(2, table.getSeat(seat).getHand().getCards().size(),
+          "After the initial deal, every seat should have two cards");
+    }
+    assertSame(table.getSeat(0), table.getPlayer(), "The first seat should be the player");
+  }
+
+  @Test
+  void newGame_ShouldDealRoundRobinFromOneShoe() {
+    BlackjackGame table = new BlackjackGame(RuleSet.fromGameRules(), 3);
+    table.newGame();
+    List<Card> next = new ArrayList<>(table.getShoe().getCards().subList(0, 8));
+    table.newGame();
+    List<Card> dealer = table.getDealer().getHand().getCards();
+    assertAll(
+      "Each seat in turn and then the dealer should be dealt a card, twice around",
+      () -> assertEquals(List.of(next.get(0), next.get(4)),
+          table.getSeat(0).getHand().getCards()),
+      () -> assertEquals(List.of(next.get(1), next.get(5)),
+          table.getSeat(1).getHand().getCards()),
+      () -> assertEquals(List.of(next.get(2), next.get(6)),
+          table.getSeat(2).getHand().getCards()),
+      () -> assertEquals(next.get(3), dealer.get(0)),
+      () -> assertEquals(next.get(7), table.getDealerUpCard()));
+  }
+
+  @Test
+  void stand_DealerShouldActOnceAfterTheLastSeat() {
+    BlackjackGame table = new BlackjackGame(RuleSet.fromGameRules(), 4);
+    for (int round = 0; round < 50; round++) {
+      table.newGame();
+      if (table.getSeat(3).getHand().hasBlackjack()) {
+        continue;
+      }
+      for (int seat = 0; seat < 3; seat++) {
+        table.getSeat(seat).stand();
+        assertFalse(table.getGameIsOver(), "The dealer should wait for every seat");
+      }
+      table.getSeat(3).stand();
+      assertTrue(table.getGameIsOver(), "The dealer should act once the last seat finishes");
+      for (int seat = 0; seat < 4; seat++) {
+        assertTrue(table.getSeat(seat).getHand().getHandResult() != HandResult.TBD,
+            "Every seat should be settled against the dealer");
+      }
+    }
+  }
+
+  @Test
+  void determineWinner_BankruptSeatShouldNotBeSettled() {
+    RuleSet rules = RuleSet.fromGameRules();
+    BlackjackPlayer broke = new BlackjackPlayer(rules);
+    broke.removeCash(broke.getCash());
+    BlackjackGame table = new BlackjackGame(rules, new BlackjackPlayer(rules), broke);
+    for (int round = 0; round < 50; round++) {
+      table.newGame();
+      if (table.getPlayer().getHand().hasBlackjack()) {
+        continue;
+      }
+      table.getPlayer().stand();
+      assertAll(
+        "A bankrupt seat is not dealt in, therefore it should not be settled",
+        () -> assertTrue(table.getGameIsOver()),
+        () -> assertTrue(broke.getHand().getCards().isEmpty()),
+        () -> assertEquals(HandResult.TBD, broke.getHand().getHandResult()),
+        () -> assertTrue(table.getPlayer().getHand().getHandResult() != HandResult.TBD),
+        () -> assertTrue(table.getDealer().getHand().getHandResult() != HandResult.TBD));
+    }
+  }
+
+  @Test
+  void seatsConstructor_SeatsOutOfRangeShouldThrowIAE() {
+    RuleSet rules = RuleSet.fromGameRules();
+    assertAll(
+      "A table must have between one and seven seats",
+      () -> assertThrows(IllegalArgumentException.class, () -> new BlackjackGame(rules, 0)),
+      () -> assertThrows(IllegalArgumentException.class,
+          () -> new BlackjackGame(rules, GameRules.MAX_SEATS + 1)));
+  }
+
+  @Test
+  void playersConstructor_ShouldSeatTheGivenPlayersInOrder() {
+    RuleSet rules = RuleSet.fromGameRules();
+    Wallet wallet = new Wallet(100_000);
+    BlackjackPlayer first = new BlackjackPlayer(rules, wallet.openTable());
+    BlackjackPlayer second = new BlackjackPlayer(rules, wallet.openTable());
+    BlackjackGame table = new BlackjackGame(rules, first, second);
+    assertAll(
+      "The players should be seated in the order given",
+      () -> assertSame(first, table.getSeat(0)),
+      () -> assertSame(second, table.getSeat(1)),
+      () -> assertNotNull(table.getHint(1)));
+  }
 }
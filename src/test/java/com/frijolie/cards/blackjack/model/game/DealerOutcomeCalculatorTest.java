@@ -0,0 +1,117 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DealerOutcomeCalculatorTest {
+
+  private DealerOutcomeCalculator calculator;
+  private ShoeComposition composition;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    calculator = new DealerOutcomeCalculator();
+    composition = new ShoeComposition(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    calculator = null;
+    composition = null;
+  }
+
+  @Test
+  void calculate_ProbabilitiesShouldSumToOne() {
+    message = "The probabilities of every outcome should sum to one";
+    for (int up = ShoeComposition.MIN_VALUE; up <= ShoeComposition.MAX_VALUE; up++) {
+      composition.remove(up);
+      double sum = Arrays.stream(calculator.calculate(up, composition, true)).sum();
+      composition.restore(up);
+      assertEquals(1.0, sum, 1e-9, message);
+    }
+  }
+
+  @Test
+  void calculate_UpAce_BlackjackShouldBeTheChanceOfATen() {
+    message = "Against an Ace the dealer has blackjack when the hole card is worth ten";
+    composition.remove(11);
+    double[] outcomes = calculator.calculate(11, composition, false);
+    assertEquals(128.0 / 415, outcomes[DealerOutcome.BLACKJACK.ordinal()], 1e-12, message);
+  }
+
+  @Test
+  void calculate_UpSix_ShouldBustAboutFortyTwoPercent() {
+    message = "A dealer showing a Six busts about 42% of the time";
+    composition.remove(6);
+    double bust = calculator.calculate(6, composition, true)[DealerOutcome.BUST.ordinal()];
+    assertTrue(bust > 0.40 && bust < 0.44, message);
+  }
+
+  @Test
+  void calculate_OnlyTensRemaining_SevenShouldAlwaysStandOn17() {
+    message = "With only tens remaining, a Seven should always finish on 17";
+    ShoeComposition tens = new ShoeComposition(1);
+    for (int value = ShoeComposition.MIN_VALUE; value <= ShoeComposition.MAX_VALUE; value++) {
+      while (value != 10 && tens.count(value) > 0) {
+        tens.remove(value);
+      }
+    }
+    assertEquals(1.0, calculator.calculate(7, tens, true)[DealerOutcome.SEVENTEEN.ordinal()],
+        message);
+  }
+
+  @Test
+  void calculate_DealerHitsSoft17_ShouldChangeTheOutcomes() {
+    message = "A dealer who hits soft 17 should finish on 17 less often";
+    composition.remove(6);
+    double[] hits = calculator.calculate(6, composition, true);
+    double[] stands = calculator.calculate(6, composition, false);
+    assertTrue(hits[DealerOutcome.SEVENTEEN.ordinal()]
+        < stands[DealerOutcome.SEVENTEEN.ordinal()], message);
+  }
+
+  @Test
+  void calculate_ShouldLeaveTheCompositionUnchanged() {
+    message = "The composition should be unchanged after a calculation";
+    composition.remove(9);
+    long packed = composition.pack();
+    calculator.calculate(9, composition, true);
+    assertEquals(packed, composition.pack(), message);
+  }
+
+  @Test
+  void calculate_RepeatedQueryShouldMatchAndChangedShoeShouldNot() {
+    message = "A repeated query should match, and a changed composition should be recalculated";
+    composition.remove(9);
+    double[] first = calculator.calculate(9, composition, true);
+    double[] second = new double[DealerOutcome.values().length];
+    calculator.calculate(9, composition, true, second);
+    composition.remove(2);
+    double[] changed = calculator.calculate(9, composition, true);
+    assertAll(
+        message,
+        () -> assertArrayEquals(first, second),
+        () -> assertNotEquals(first[DealerOutcome.BUST.ordinal()],
+            changed[DealerOutcome.BUST.ordinal()]));
+  }
+
+  @Test
+  void calculate_OutOfRangeUpCardShouldThrowIAE() {
+    message = "An up card value outside 2 through 11 should throw IAE";
+    assertThrows(IllegalArgumentException.class,
+        () -> calculator.calculate(1, composition, true), message);
+  }
+}
@@ -0,0 +1,140 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.CardRandomizer;
+import com.frijolie.cards.blackjack.model.cards.Card;
+import com.frijolie.cards.blackjack.model.cards.HeadlessHand;
+import com.frijolie.cards.blackjack.model.cards.Rank;
+import com.frijolie.cards.blackjack.model.cards.ShoeComposition;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpectedValueSolverTest {
+
+  private ExpectedValueSolver solver;
+  private RuleSet rules;
+  private ShoeComposition composition;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    solver = new ExpectedValueSolver();
+    rules = new RuleSet(8, 0.75, false, true, false, BigDecimal.TEN, true, true, false);
+    composition = new ShoeComposition(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    solver = null;
+    rules = null;
+    composition = null;
+  }
+
+  @Test
+  void solve_ElevenAgainstSix_ShouldDoubleDown() {
+    message = "Eleven against a Six should be best doubled, and doubling should beat hitting";
+    ExpectedValues values = solve(rules, Rank.SIX, Rank.SIX, Rank.FIVE);
+    assertAll(
+        message,
+        () -> assertEquals(Action.DOUBLE_DOWN, values.best()),
+        () -> assertTrue(values.get(Action.DOUBLE_DOWN) > values.get(Action.HIT)),
+        () -> assertTrue(values.get(Action.HIT) > values.get(Action.STAND)));
+  }
+
+  @Test
+  void solve_TwentyAgainstSix_ShouldStandWithAStrongEdge() {
+    message = "Twenty against a Six should stand, winning about 0.7 units";
+    ExpectedValues values = solve(rules, Rank.SIX, Rank.KING, Rank.QUEEN);
+    assertAll(
+        message,
+        () -> assertEquals(Action.STAND, values.best()),
+        () -> assertEquals(0.70, values.get(Action.STAND), 0.03),
+        () -> assertFalse(values.isAllowed(Action.SPLIT)));
+  }
+
+  @Test
+  void solve_SixteenAgainstTen_ShouldLoseAboutHalfAUnit() {
+    message = "Sixteen against a Ten should lose a little over half a unit either way";
+    ExpectedValues values = solve(rules, Rank.TEN, Rank.TEN, Rank.SIX);
+    assertAll(
+        message,
+        () -> assertEquals(-0.54, values.get(Action.STAND), 0.03),
+        () -> assertEquals(-0.54, values.get(Action.HIT), 0.03),
+        () -> assertFalse(values.isAllowed(Action.SURRENDER)));
+  }
+
+  @Test
+  void solve_AcesAgainstSix_ShouldSplit() {
+    message = "A pair of Aces should be split";
+    assertEquals(Action.SPLIT, solve(rules, Rank.SIX, Rank.ACE, Rank.ACE).best(), message);
+  }
+
+  @Test
+  void solve_SplitsNotAllowed_SplitShouldNotBeValued() {
+    message = "A hand which may not be split should not have a value for splitting";
+    RuleSet noSplits = new RuleSet(8, 0.75, false, true, false, BigDecimal.TEN, true, false,
+        false);
+    assertFalse(solve(noSplits, Rank.SIX, Rank.EIGHT, Rank.EIGHT).isAllowed(Action.SPLIT),
+        message);
+  }
+
+  @Test
+  void solve_Blackjack_ShouldPayThreeToTwo() {
+    message = "A blackjack should only stand, and be paid 3 to 2";
+    ExpectedValues values = solve(rules, Rank.NINE, Rank.ACE, Rank.KING);
+    assertAll(
+        message,
+        () -> assertEquals(GameRules.BLACKJACK_PAYOUT, values.get(Action.STAND)),
+        () -> assertFalse(values.isAllowed(Action.HIT)));
+  }
+
+  @Test
+  void solve_ShouldLeaveTheCompositionUnchanged() {
+    message = "The composition should be unchanged after solving";
+    composition.remove(7);
+    composition.remove(2);
+    composition.remove(3);
+    long packed = composition.pack();
+    HeadlessHand hand = new HeadlessHand(rules);
+    hand.addCard(CardRandomizer.getCard(Rank.TWO));
+    hand.addCard(CardRandomizer.getCard(Rank.THREE));
+    solver.solve(hand, CardRandomizer.getCard(Rank.SEVEN), composition, rules);
+    assertEquals(packed, composition.pack(), message);
+  }
+
+  @Test
+  void solve_NullHandShouldThrowNPE() {
+    message = "Should throw NullPointerException when a null hand is passed";
+    assertThrows(NullPointerException.class,
+        () -> solver.solve((HeadlessHand) null, CardRandomizer.getCard(Rank.TEN), composition,
+            rules), message);
+  }
+
+  private ExpectedValues solve(final RuleSet rules, final Rank up, final Rank first,
+      final Rank second) {
+    HeadlessHand hand = new HeadlessHand(rules);
+    Card upCard = CardRandomizer.getCard(up);
+    Card firstCard = CardRandomizer.getCard(first);
+    Card secondCard = CardRandomizer.getCard(second);
+    hand.addCard(firstCard);
+    hand.addCard(secondCard);
+    composition.remove(upCard);
+    composition.remove(firstCard);
+    composition.remove(secondCard);
+    ExpectedValues values = solver.solve(hand, upCard, composition, rules);
+    composition.restore(upCard.getValue());
+    composition.restore(firstCard.getValue());
+    composition.restore(secondCard.getValue());
+    return values;
+  }
+}
@@ -0,0 +1,101 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.cards.Shoe;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RuleSetTest {
+
+  private RuleSet rules;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    GameRules.DEALER_HITS_SOFT_17 = true;
+    GameRules.OFFER_INSURANCE = true;
+    GameRules.OFFER_SURRENDER = false;
+    GameRules.DOUBLE_DOWN_ALLOWED = true;
+    GameRules.SPLITS_ALLOWED = true;
+    GameRules.SPLIT_ON_VALUE = false;
+    rules = new RuleSet(2, 0.5, false, false, true, BigDecimal.TEN, false, false, true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    rules = null;
+  }
+
+  @Test
+  void fromGameRules_ShouldCopyTheCurrentSettings() {
+    message = "A snapshot should hold the settings of GameRules when it was taken";
+    RuleSet snapshot = RuleSet.fromGameRules();
+    GameRules.DEALER_HITS_SOFT_17 = false;
+    assertAll(
+      message,
+      () -> assertEquals(GameRules.DEFAULT_NUMBER_OF_DECKS, snapshot.getNumberOfDecks()),
+      () -> assertEquals(GameRules.DEFAULT_PENETRATION, snapshot.getPenetration()),
+      () -> assertTrue(snapshot.dealerHitsSoft17()),
+      () -> assertTrue(snapshot.isOfferInsurance()),
+      () -> assertFalse(snapshot.isOfferSurrender()),
+      () -> assertEquals(GameRules.MIN_BET, snapshot.getMinBet()));
+    GameRules.DEALER_HITS_SOFT_17 = true;
+  }
+
+  @Test
+  void equals_SameSettingsShouldBeEqual() {
+    message = "Two RuleSets with the same settings should be equal and share a hash code";
+    RuleSet same = new RuleSet(2, 0.5, false, false, true, new BigDecimal("10.00"), false, false,
+        true);
+    assertAll(
+      message,
+      () -> assertEquals(rules, same),
+      () -> assertEquals(rules.hashCode(), same.hashCode()));
+  }
+
+  @Test
+  void constructor_OutOfRangeDecksShouldThrowIAE() {
+    message = "A RuleSet with more decks than the maximum should throw IAE";
+    assertThrows(IllegalArgumentException.class,
+        () -> new RuleSet(9, 0.75, true, true, false, BigDecimal.TEN, true, true, false), message);
+  }
+
+  @Test
+  void constructor_ZeroPenetrationShouldThrowIAE() {
+    message = "A RuleSet with no penetration should throw IAE";
+    assertThrows(IllegalArgumentException.class,
+        () -> new RuleSet(6, 0, true, true, false, BigDecimal.TEN, true, true, false), message);
+  }
+
+  @Test
+  void shoe_ShouldUseTheDecksAndPenetrationOfTheRuleSet() {
+    message = "A Shoe created from a RuleSet should hold its decks and place its cut card";
+    Shoe shoe = new Shoe(rules);
+    assertAll(
+      message,
+      () -> assertEquals(104, shoe.remaining()),
+      () -> assertEquals(52, shoe.getCutCard()));
+  }
+
+  @Test
+  void blackjackGame_ShouldPlayByItsRuleSet() {
+    message = "A game created with a RuleSet should return it and offer surrender";
+    GameRules.OFFER_SURRENDER = false;
+    BlackjackGame game = new BlackjackGame(rules);
+    assertAll(
+      message,
+      () -> assertEquals(rules, game.getRuleSet()),
+      () -> assertEquals(game.getPlayer().getHand().hasTwoCards()
+          && game.getPlayer().getHand().getScore() < GameRules.MAX_SCORE,
+          game.getOfferSurrender()));
+  }
+}
@@ -0,0 +1,133 @@
+package com.frijolie.cards.blackjack.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.frijolie.cards.blackjack.model.CardRandomizer;
+import com.frijolie.cards.blackjack.model.cards.HandStateTable;
+import com.frijolie.cards.blackjack.model.cards.HeadlessHand;
+import com.frijolie.cards.blackjack.model.cards.Rank;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StrategyEngineTest {
+
+  private RuleSet rules;
+  private HeadlessHand hand;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    rules = new RuleSet(6, 0.75, false, true, false, BigDecimal.TEN, true, true, false);
+    hand = new HeadlessHand(rules);
+  }
+
+  @AfterEach
+  void tearDown() {
+    rules = null;
+    hand = null;
+  }
+
+  @Test
+  void decide_HardTotals_ShouldFollowTheStrategyTable() {
+    message = "Hard totals should be played as the strategy table shows";
+    assertAll(
+      message,
+      () -> assertEquals(Action.HIT, decide(HandStateTable.hard(12), 2)),
+      () -> assertEquals(Action.STAND, decide(HandStateTable.hard(12), 4)),
+      () -> assertEquals(Action.STAND, decide(HandStateTable.hard(16), 6)),
+      () -> assertEquals(Action.HIT, decide(HandStateTable.hard(16), 7)),
+      () -> assertEquals(Action.STAND, decide(HandStateTable.hard(17), 11)),
+      () -> assertEquals(Action.HIT, decide(HandStateTable.hard(8), 6)));
+  }
+
+  @Test
+  void decide_DoubleCells_ShouldFallBackWhenDoublingIsNotAllowed() {
+    message = "A double should be recommended only when the hand may double down";
+    int eleven = HandStateTable.hard(11);
+    int soft18 = HandStateTable.soft(18);
+    assertAll(
+      message,
+      () -> assertEquals(Action.DOUBLE_DOWN,
+          StrategyEngine.decide(eleven, 6, true, false, false, false)),
+      () -> assertEquals(Action.HIT,
+          StrategyEngine.decide(eleven, 6, false, false, false, false)),
+      () -> assertEquals(Action.STAND,
+          StrategyEngine.decide(soft18, 3, false, false, false, false)));
+  }
+
+  @Test
+  void decide_SurrenderCells_ShouldFallBackWhenSurrenderIsNotOffered() {
+    message = "A surrender should be recommended only when the hand may surrender";
+    int sixteen = HandStateTable.hard(16);
+    assertAll(
+      message,
+      () -> assertEquals(Action.SURRENDER,
+          StrategyEngine.decide(sixteen, 9, false, false, true, false)),
+      () -> assertEquals(Action.HIT,
+          StrategyEngine.decide(sixteen, 9, false, false, false, false)));
+  }
+
+  @Test
+  void decide_DealerHitsSoft17_ShouldUseItsOwnTable() {
+    message = "Eleven against an Ace should be doubled only when the dealer hits soft 17";
+    int eleven = HandStateTable.hard(11);
+    assertAll(
+      message,
+      () -> assertEquals(Action.HIT,
+          StrategyEngine.decide(eleven, 11, true, false, false, false)),
+      () -> assertEquals(Action.DOUBLE_DOWN,
+          StrategyEngine.decide(eleven, 11, true, false, false, true)));
+  }
+
+  @Test
+  void decide_Pairs_ShouldSplitOnlyWhenAllowed() {
+    message = "A pair of Aces should be split when allowed, otherwise played as soft 12";
+    int aces = HandStateTable.pair(11);
+    assertAll(
+      message,
+      () -> assertEquals(Action.SPLIT, StrategyEngine.decide(aces, 10, false, true, false, false)),
+      () -> assertEquals(Action.HIT, StrategyEngine.decide(aces, 10, false, false, false, false)),
+      () -> assertEquals(Action.DOUBLE_DOWN,
+          StrategyEngine.decide(HandStateTable.pair(5), 6, true, true, false, false)));
+  }
+
+  @Test
+  void decide_Hand_ShouldUseTheMovesAllowedByTheRuleSet() {
+    message = "A pair of Eights should be split, and Ten and Jack should stand";
+    hand.addCard(CardRandomizer.getCard(Rank.EIGHT));
+    hand.addCard(CardRandomizer.getCard(Rank.EIGHT));
+    HeadlessHand tens = new HeadlessHand(rules);
+    tens.addCard(CardRandomizer.getCard(Rank.TEN));
+    tens.addCard(CardRandomizer.getCard(Rank.JACK));
+    assertAll(
+      message,
+      () -> assertEquals(Action.SPLIT,
+          StrategyEngine.decide(hand, CardRandomizer.getCard(Rank.TEN), rules)),
+      () -> assertEquals(Action.STAND,
+          StrategyEngine.decide(tens, CardRandomizer.getCard(Rank.SIX), rules)));
+  }
+
+  @Test
+  void decide_Blackjack_ShouldStand() {
+    message = "A blackjack should always stand";
+    assertEquals(Action.STAND, decide(HandStateTable.BLACKJACK, 11), message);
+  }
+
+  @Test
+  void decide_NullHandShouldThrowNPE() {
+    message = "Should throw NullPointerException when a null hand is passed";
+    assertThrows(NullPointerException.class,
+        () -> StrategyEngine.decide(null, CardRandomizer.getCard(Rank.TEN), rules), message);
+  }
+
+  private Action decide(final int state, final int dealerUpValue) {
+    return StrategyEngine.decide(state, dealerUpValue, true, true, false, false);
+  }
+}
@@ -2,9 +2,11 @@ package com.frijolie.cards.blackjack.model.players;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.frijolie.cards.blackjack.model.cards.HandState;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,4 +57,47 @@ class BlackjackPlayerTest {
     player.stand();
     assertFalse(player.isActive(), message);
   }
+
+  @Test
+  void addCash_ShouldIncreaseTheBalance() {
+    String message = "Adding cash should increase the balance of the player";
+    player.addCash(12.5);
+    assertEquals(1012.5, player.getCash(), message);
+  }
+
+  @Test
+  void removeCash_ShouldDecreaseTheBalance() {
+    String message = "Removing cash should decrease the balance of the player";
+    player.removeCash(25);
+    assertEquals(975, player.getCash(), message);
+  }
+
+  @Test
+  void removeCash_RemovingEverythingShouldMakeThePlayerBankrupt() {
+    String message = "Removing all of the cash should make the player bankrupt and inactive";
+    player.removeCash(1000);
+    assertTrue(player.isBankrupt(), message);
+    assertFalse(player.isActive(), message);
+  }
+
+  @Test
+  void removeCash_MoreThanTheBalanceShouldThrowISE() {
+    String message = "The player cannot remove more cash than they have";
+    assertThrows(IllegalStateException.class, () -> player.removeCash(1000.01), message);
+    assertEquals(1000, player.getCash(), message);
+  }
+
+  @Test
+  void removeCash_PlayersSharingAWalletShouldOnlyBeBankruptWhenItIsEmpty() {
+    String message = "A player sharing a wallet should stay solvent while the wallet covers them";
+    Wallet wallet = new Wallet(5_000, 1_000);
+    BlackjackPlayer left = new BlackjackPlayer(RuleSet.fromGameRules(), wallet.openTable());
+    BlackjackPlayer right = new BlackjackPlayer(RuleSet.fromGameRules(), wallet.openTable());
+    left.removeCash(20);
+    right.removeCash(10);
+    assertFalse(right.isBankrupt(), message);
+    assertEquals(20, left.getCash(), message);
+    right.removeCash(20);
+    assertTrue(right.isBankrupt(), message);
+  }
 }
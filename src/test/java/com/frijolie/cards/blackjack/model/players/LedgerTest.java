@@ -0,0 +1,133 @@
+package com.frijolie.cards.blackjack.model.players;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LedgerTest {
+
+  private Ledger ledger;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    ledger = new Ledger(100_000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ledger = null;
+  }
+
+  @Test
+  void toCents_ShouldConvertDollarsExactly() {
+    message = "Dollars should convert to cents exactly, and fractions of a cent should be refused";
+    assertAll(
+      message,
+      () -> assertEquals(100_000, Ledger.toCents(new BigDecimal("1000")), message),
+      () -> assertEquals(2_501, Ledger.toCents(new BigDecimal("25.01")), message),
+      () -> assertEquals(1_010, Ledger.toCents(10.1), message),
+      () -> assertEquals(new BigDecimal("25.01"), Ledger.toDollars(2_501), message),
+      () -> assertThrows(ArithmeticException.class,
+          () -> Ledger.toCents(new BigDecimal("0.005")), message));
+  }
+
+  @Test
+  void debit_ShouldNeverOverdraw() {
+    message = "A debit larger than the balance should leave the balance untouched";
+    assertAll(
+      message,
+      () -> assertFalse(ledger.debit(100_001), message),
+      () -> assertEquals(100_000, ledger.getBalance(), message),
+      () -> assertTrue(ledger.debit(100_000), message),
+      () -> assertEquals(0, ledger.getBalance(), message));
+  }
+
+  @Test
+  void credit_NegativeAmountShouldThrowIAE() {
+    message = "An amount cannot be negative";
+    assertAll(
+      message,
+      () -> assertThrows(IllegalArgumentException.class, () -> ledger.credit(-1), message),
+      () -> assertThrows(IllegalArgumentException.class, () -> ledger.debit(-1), message));
+  }
+
+  @Test
+  void credit_OverflowShouldThrowArithmeticException() {
+    message = "A balance which would overflow should not wrap around";
+    assertThrows(ArithmeticException.class, () -> ledger.credit(Long.MAX_VALUE), message);
+  }
+
+  @Test
+  void payBlackjack_ShouldPayThreeToTwoRoundedDown() {
+    message = "A blackjack should return the wager and 3:2, rounded down to the cent";
+    ledger.debit(2_501);
+    assertAll(
+      message,
+      () -> assertEquals(3_751, Ledger.blackjackWinnings(2_501), message),
+      () -> assertEquals(6_252, ledger.payBlackjack(2_501), message),
+      () -> assertEquals(100_000 - 2_501 + 6_252, ledger.getBalance(), message));
+  }
+
+  @Test
+  void payWin_PushAndSurrenderShouldReturnTheRightShare() {
+    message = "A win should return double the wager, a push the wager and a surrender half";
+    assertAll(
+      message,
+      () -> assertEquals(5_000, ledger.payWin(2_500), message),
+      () -> assertEquals(2_500, ledger.payPush(2_500), message),
+      () -> assertEquals(1_250, ledger.paySurrender(2_500), message),
+      () -> assertEquals(100_000 + 8_750, ledger.getBalance(), message));
+  }
+
+  @Test
+  void payInsurance_ShouldPayTwoToOneOnHalfTheWager() {
+    message = "Insurance should cost half the wager and return the side bet and 2:1";
+    assertAll(
+      message,
+      () -> assertTrue(ledger.buyInsurance(2_500), message),
+      () -> assertEquals(98_750, ledger.getBalance(), message),
+      () -> assertEquals(3_750, ledger.payInsurance(2_500), message),
+      () -> assertEquals(102_500, ledger.getBalance(), message));
+  }
+
+  @Test
+  void debit_ConcurrentTablesShouldNeverLoseOrOverdraw() {
+    message = "Tables sharing a ledger should take exactly what the balance covers";
+    List<CompletableFuture<Integer>> tables = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      tables.add(CompletableFuture.supplyAsync(() -> {
+        int taken = 0;
+        for (int i = 0; i < 10_000; i++) {
+          if (ledger.debit(3)) {
+            taken++;
+          }
+          if (i % 2 == 0) {
+            ledger.credit(1);
+          }
+        }
+        return taken;
+      }));
+    }
+    long taken = 0;
+    for (CompletableFuture<Integer> table : tables) {
+      taken += table.join();
+    }
+    long expected = 100_000 + 8 * 5_000 - 3 * taken;
+    assertAll(
+      message,
+      () -> assertEquals(expected, ledger.getBalance(), message),
+      () -> assertTrue(ledger.getBalance() >= 0, message));
+  }
+}
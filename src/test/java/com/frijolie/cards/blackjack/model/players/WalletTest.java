@@ -0,0 +1,161 @@
+package com.frijolie.cards.blackjack.model.players;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WalletTest {
+
+  private Wallet wallet;
+  private TableWallet first;
+  private TableWallet second;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    wallet = new Wallet(100_000, 10_000);
+    first = wallet.openTable();
+    second = wallet.openTable();
+  }
+
+  @AfterEach
+  void tearDown() {
+    wallet = null;
+    first = null;
+    second = null;
+  }
+
+  @Test
+  void debit_ShouldReserveABatchFromTheCentralLedger() {
+    message = "A table should reserve its shortfall and a batch when its float runs short";
+    assertAll(
+      message,
+      () -> assertTrue(first.debit(2_500), message),
+      () -> assertEquals(10_000, first.getFloat(), message),
+      () -> assertEquals(87_500, wallet.getCentralBalance(), message),
+      () -> assertEquals(97_500, wallet.getBalance(), message));
+  }
+
+  @Test
+  void credit_ShouldReturnTheExcessBeyondTwoBatches() {
+    message = "A float beyond two batches should return all but one batch to the central ledger";
+    first.credit(20_001);
+    assertAll(
+      message,
+      () -> assertEquals(10_000, first.getFloat(), message),
+      () -> assertEquals(110_001, wallet.getCentralBalance(), message),
+      () -> assertEquals(120_001, wallet.getBalance(), message));
+  }
+
+  @Test
+  void debit_ShouldReclaimTheFloatsOfOtherTables() {
+    message = "A wager the wallet covers should not be refused because another table holds a float";
+    assertTrue(first.debit(90_000), message);
+    assertAll(
+      message,
+      () -> assertEquals(0, wallet.getCentralBalance(), message),
+      () -> assertEquals(10_000, first.getFloat(), message),
+      () -> assertTrue(second.debit(10_000), message),
+      () -> assertEquals(0, wallet.getBalance(), message),
+      () -> assertTrue(wallet.isBankrupt(), message));
+  }
+
+  @Test
+  void debit_ShouldNeverOverdrawTheWallet() {
+    message = "A wager larger than the whole wallet should be refused and take nothing";
+    assertAll(
+      message,
+      () -> assertFalse(first.debit(100_001), message),
+      () -> assertEquals(100_000, wallet.getBalance(), message));
+  }
+
+  @Test
+  void closeTable_ShouldReturnTheFloat() {
+    message = "Closing a table should return its float to the central ledger";
+    first.debit(100);
+    wallet.closeTable(first);
+    assertAll(
+      message,
+      () -> assertEquals(0, first.getFloat(), message),
+      () -> assertEquals(99_900, wallet.getCentralBalance(), message));
+  }
+
+  @Test
+  void constructor_NonPositiveBatchShouldThrowIAE() {
+    message = "A table must reserve a positive batch";
+    assertThrows(IllegalArgumentException.class, () -> new Wallet(100, 0), message);
+  }
+
+  @Test
+  void debit_ConcurrentTablesShouldConserveMoney() {
+    message = "Tables betting concurrently should neither create nor lose money";
+    List<CompletableFuture<Long>> tables = new ArrayList<>();
+    for (int t = 0; t < 6; t++) {
+      TableWallet table = wallet.openTable();
+      tables.add(CompletableFuture.supplyAsync(() -> {
+        long net = 0;
+        for (int i = 0; i < 20_000; i++) {
+          if (table.debit(2_500)) {
+            net -= 2_500;
+            if (i % 3 == 0) {
+              net += table.payWin(2_500);
+            } else if (i % 3 == 1) {
+              net += table.payPush(2_500);
+            }
+          }
+        }
+        return net;
+      }));
+    }
+    long net = 0;
+    for (CompletableFuture<Long> table : tables) {
+      net += table.join();
+    }
+    wallet.rebalance();
+    long expected = 100_000 + net;
+    assertAll(
+      message,
+      () -> assertEquals(expected, wallet.getBalance(), message),
+      () -> assertEquals(expected, wallet.getCentralBalance(), message),
+      () -> assertTrue(expected >= 0, message));
+  }
+
+  @Test
+  void getBalance_ShouldNotMissMoneyMovingBetweenTables() {
+    message = "While tables move money, the balance should never be read below the money held";
+    Wallet small = new Wallet(10_000, 2_500);
+    List<CompletableFuture<Void>> tables = new ArrayList<>();
+    for (int t = 0; t < 3; t++) {
+      TableWallet table = small.openTable();
+      tables.add(CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          if (table.debit(2_500)) {
+            table.payPush(2_500);
+          }
+          small.rebalance();
+        }
+      }));
+    }
+    CompletableFuture<Void> all =
+        CompletableFuture.allOf(tables.toArray(new CompletableFuture<?>[0]));
+    long lowest = Long.MAX_VALUE;
+    while (!all.isDone()) {
+      lowest = Math.min(lowest, small.getBalance());
+    }
+    final long observed = lowest;
+    assertAll(
+      message,
+      () -> assertTrue(observed >= 10_000 - 3 * 2_500),
+      () -> assertEquals(10_000, small.getBalance()));
+  }
+}
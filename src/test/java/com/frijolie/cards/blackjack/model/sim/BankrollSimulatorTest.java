@@ -0,0 +1,119 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.cards.CountingSystem;
+import com.frijolie.cards.blackjack.model.game.GameRules;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BankrollSimulatorTest {
+
+  private RuleSet rules;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    rules = new RuleSet(6, 0.75, false, true, false, BigDecimal.valueOf(25), true, true, false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    rules = null;
+  }
+
+  private BankrollSimulator simulator(final BettingPolicy policy) {
+    return new BankrollSimulator(rules, PlayerStrategy.basic(rules), CountingSystem.HI_LO,
+        policy);
+  }
+
+  @Test
+  void units_StartingCashShouldBeFortyMinimumBets() {
+    message = "The starting cash of $1,000 should be 40 bets of $25";
+    assertEquals(40, BankrollSimulator.units(GameRules.STARTING_CASH, rules.getMinBet()),
+        message);
+  }
+
+  @Test
+  void run_EveryPathShouldEndRuinedOrRecorded() {
+    message = "Every path should be followed, and ruin should only grow along the paths";
+    BankrollResult result = simulator(BettingPolicy.FLAT).run(20, 200, 4_000, 5L, 4);
+    assertAll(
+      message,
+      () -> assertEquals(4_000, result.getPaths(), message),
+      () -> assertTrue(result.getRiskOfRuin(4) <= result.getRiskOfRuin(), message),
+      () -> assertTrue(result.getRiskOfRuin() > 0 && result.getRiskOfRuin() < 0.5, message),
+      () -> assertTrue(result.getPercentile(0) >= 0, message),
+      () -> assertTrue(result.getPercentile(0.5) > 0, message));
+  }
+
+  @Test
+  void run_SameSeedAndWorkersShouldBeReproducible() {
+    message = "Two runs with the same seed and number of workers should have the same outcome";
+    BankrollSimulator simulator = simulator(BettingPolicy.ramp(1, 1, 2, 4, 8));
+    BankrollResult first = simulator.run(40, 100, 500, 9L, 3);
+    BankrollResult second = simulator.run(40, 100, 500, 9L, 3);
+    assertAll(
+      message,
+      () -> assertEquals(first.getRiskOfRuin(), second.getRiskOfRuin(), message),
+      () -> assertEquals(first.getPercentile(0.5), second.getPercentile(0.5), message),
+      () -> assertEquals(first.getRoundResult().getTotal(),
+          second.getRoundResult().getTotal(), message));
+  }
+
+  @Test
+  void run_LargerBankrollShouldHaveLowerRiskOfRuin() {
+    message = "A larger bankroll should be ruined less often on the same shoes";
+    BankrollSimulator simulator = simulator(BettingPolicy.FLAT);
+    BankrollResult small = simulator.run(10, 500, 2_000, 13L, 2);
+    BankrollResult large = simulator.run(60, 500, 2_000, 13L, 2);
+    assertTrue(large.getRiskOfRuin() < small.getRiskOfRuin(), message);
+  }
+
+  @Test
+  void getN0_NoAdvantageShouldBeInfinite() {
+    message = "Flat betting has no advantage, so N0 is infinite and ruin certain in the long run";
+    BankrollResult result = simulator(BettingPolicy.FLAT).run(1_000, 1_000, 200, 17L, 2);
+    assertAll(
+      message,
+      () -> assertEquals(Double.POSITIVE_INFINITY, result.getN0(), message),
+      () -> assertEquals(1, result.getLongRunRiskOfRuin(), message));
+  }
+
+  @Test
+  void play_CashBelowTheExposureShouldNotBeOverdrawn() {
+    message = "A path with cash for one bet should not double or split into money it does not have";
+    PlayerStrategy aggressive = (state, up, canDouble, canSplit, canSurrender) -> {
+      if (canSplit) {
+        return Action.SPLIT;
+      }
+      if (canDouble) {
+        return Action.DOUBLE_DOWN;
+      }
+      return PlayerStrategy.MIMIC_DEALER.decide(state, up, false, false, false);
+    };
+    BankrollSimulator simulator = new BankrollSimulator(rules, aggressive, CountingSystem.HI_LO,
+        BettingPolicy.FLAT);
+    for (long seed = 0; seed < 2_000; seed++) {
+      BankrollResult result = simulator.play(1.5, 1, 1, new SplittableRandom(seed));
+      assertTrue(result.getRoundResult().getTotal() >= -1.5, message);
+    }
+  }
+
+  @Test
+  void run_NonPositiveBankrollShouldThrowIAE() {
+    message = "A path must start with a positive bankroll";
+    assertThrows(IllegalArgumentException.class,
+        () -> simulator(BettingPolicy.FLAT).run(0, 10, 10, 1L, 1), message);
+  }
+}
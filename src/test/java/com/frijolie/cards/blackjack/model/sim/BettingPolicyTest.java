@@ -0,0 +1,78 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BettingPolicyTest {
+
+  private AdvantageTable table;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    table = AdvantageTable.linear(-0.005, 0.005, 1.3, -5, 10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    table = null;
+  }
+
+  @Test
+  void ramp_ShouldBetByTrueCountAndHoldAtEitherEnd() {
+    message = "A ramp should bet its first unit at or below its first count and its last above";
+    BettingPolicy ramp = BettingPolicy.ramp(1, 1, 2, 4, 8);
+    assertAll(
+      message,
+      () -> assertEquals(1, ramp.units(-3), message),
+      () -> assertEquals(1, ramp.units(1), message),
+      () -> assertEquals(2, ramp.units(2), message),
+      () -> assertEquals(8, ramp.units(4), message),
+      () -> assertEquals(8, ramp.units(9), message));
+  }
+
+  @Test
+  void ramp_NegativeOrMissingBetsShouldThrowIAE() {
+    message = "A ramp must have at least one bet and no negative bets";
+    assertAll(
+      message,
+      () -> assertThrows(IllegalArgumentException.class, () -> BettingPolicy.ramp(0), message),
+      () -> assertThrows(IllegalArgumentException.class, () -> BettingPolicy.ramp(0, 1, -1),
+          message));
+  }
+
+  @Test
+  void kelly_ShouldBetTheFractionOfBankrollOverVariance() {
+    message = "Half Kelly at an advantage of 1% should bet half of 1% of the bankroll over 1.3";
+    BettingPolicy kelly = BettingPolicy.kelly(table, 0.5, 1000, 1, 100);
+    assertEquals(0.5 * 1000 * 0.01 / 1.3, kelly.units(3), 1e-9, message);
+  }
+
+  @Test
+  void kelly_ShouldBetWithinTheMinimumAndMaximum() {
+    message = "A Kelly bet should be the minimum without an advantage and never exceed the maximum";
+    BettingPolicy kelly = BettingPolicy.kelly(table, 1, 10_000, 1, 12);
+    assertAll(
+      message,
+      () -> assertEquals(1, kelly.units(-2), message),
+      () -> assertEquals(1, kelly.units(1), message),
+      () -> assertEquals(12, kelly.units(8), message));
+  }
+
+  @Test
+  void linear_ShouldRiseByTheSameAmountWithEachTrueCount() {
+    message = "A linear table should rise evenly and hold its ends beyond its range";
+    assertAll(
+      message,
+      () -> assertEquals(-0.005, table.getAdvantage(0), 1e-12, message),
+      () -> assertEquals(0.015, table.getAdvantage(4), 1e-12, message),
+      () -> assertEquals(table.getAdvantage(-5), table.getAdvantage(-20), message),
+      () -> assertEquals(table.getAdvantage(10), table.getAdvantage(30), message),
+      () -> assertEquals(1.3, table.getVariance(7), message));
+  }
+}
@@ -0,0 +1,99 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.cards.CountingSystem;
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CountedResultTest {
+
+  private static CountedResult counted;
+  private String message;
+
+  @BeforeAll
+  static void setUp() {
+    RuleSet rules = new RuleSet(6, 0.75, false, true, false, BigDecimal.TEN, true, true, false);
+    counted = new Simulator(rules, PlayerStrategy.basic(rules))
+        .runCounted(400_000, 11L, CountingSystem.HI_LO);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    counted = null;
+  }
+
+  @Test
+  void runCounted_BinsShouldHoldEveryRound() {
+    message = "Every round played should fall in exactly one bin";
+    long rounds = 0;
+    for (int tc = CountedResult.MIN_TRUE_COUNT; tc <= CountedResult.MAX_TRUE_COUNT; tc++) {
+      rounds += counted.getResult(tc).getRounds();
+    }
+    assertEquals(400_000, rounds, message);
+  }
+
+  @Test
+  void toAdvantageTable_AdvantageShouldRiseWithTheTrueCount() {
+    message = "The player's advantage should be clearly higher at +4 than at 0 under Hi-Lo";
+    AdvantageTable table = counted.toAdvantageTable();
+    assertAll(
+      message,
+      () -> assertTrue(table.getAdvantage(4) - table.getAdvantage(0) > 0.01, message),
+      () -> assertTrue(table.getVariance(0) > 1 && table.getVariance(0) < 1.6, message));
+  }
+
+  @Test
+  void evaluate_FlatBettingShouldMatchTheTotal() {
+    message = "Flat betting should reproduce the result of every round bet one unit";
+    BettingResult flat = counted.evaluate(BettingPolicy.FLAT);
+    assertAll(
+      message,
+      () -> assertEquals(counted.getTotal().getTotal(), flat.getResult().getTotal(), 1e-6),
+      () -> assertEquals(1, flat.getAverageBet(), 1e-12),
+      () -> assertEquals(0, flat.getDifference().getTotal()));
+  }
+
+  @Test
+  void evaluate_ScaledPolicyShouldScaleTheResult() {
+    message = "Betting two units on every round should double the mean and the deviation";
+    List<BettingResult> results = counted.evaluate(List.of(BettingPolicy.FLAT, tc -> 2));
+    SimulationResult flat = results.get(0).getResult();
+    SimulationResult twice = results.get(1).getResult();
+    assertAll(
+      message,
+      () -> assertEquals(2 * flat.getExpectedValue(), twice.getExpectedValue(), 1e-12),
+      () -> assertEquals(2 * flat.getStandardDeviation(), twice.getStandardDeviation(), 1e-9),
+      () -> assertEquals(flat.getStandardError(),
+          results.get(1).getDifference().getStandardError(), 1e-9));
+  }
+
+  @Test
+  void evaluate_RampShouldBeatFlatBetting() {
+    message = "A 1 to 12 spread should win more per unit bet than flat betting, on the same rounds";
+    List<BettingResult> results = counted.evaluate(
+        List.of(BettingPolicy.FLAT, BettingPolicy.ramp(1, 1, 2, 4, 8, 12)));
+    BettingResult ramp = results.get(1);
+    assertAll(
+      message,
+      () -> assertTrue(ramp.getAdvantage() > results.get(0).getAdvantage(), message),
+      () -> assertTrue(ramp.getDifference().getExpectedValue()
+          > 2 * ramp.getDifference().getStandardError(), message));
+  }
+
+  @Test
+  void toAdvantageTable_EmptyResultShouldThrowISE() {
+    message = "An advantage cannot be measured without rounds";
+    assertThrows(IllegalStateException.class, () -> new CountedResult().toAdvantageTable(),
+        message);
+  }
+}
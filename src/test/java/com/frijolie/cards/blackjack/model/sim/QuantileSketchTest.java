@@ -0,0 +1,106 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+  private QuantileSketch sketch;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    sketch = new QuantileSketch();
+  }
+
+  @AfterEach
+  void tearDown() {
+    sketch = null;
+  }
+
+  @Test
+  void quantile_ShouldBeWithinTheRelativeAccuracy() {
+    message = "Every quantile should be within the relative accuracy of the exact quantile";
+    SplittableRandom random = new SplittableRandom(3L);
+    double[] values = new double[100_001];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Math.exp(random.nextDouble(-4, 14));
+      sketch.add(values[i]);
+    }
+    Arrays.sort(values);
+    for (double q : new double[] {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+      double exact = values[(int) (q * (values.length - 1))];
+      assertEquals(exact, sketch.quantile(q), exact * QuantileSketch.DEFAULT_ACCURACY, message);
+    }
+  }
+
+  @Test
+  void quantile_ExtremesShouldBeExact() {
+    message = "The lowest and highest quantiles should be the exact minimum and maximum";
+    sketch.add(3.25);
+    sketch.add(1234.5);
+    sketch.add(17);
+    assertAll(
+      message,
+      () -> assertEquals(3.25, sketch.quantile(0), message),
+      () -> assertEquals(1234.5, sketch.quantile(1), message));
+  }
+
+  @Test
+  void quantile_ZerosShouldBeCountedApart() {
+    message = "Values of zero should be counted apart from the buckets";
+    for (int i = 0; i < 30; i++) {
+      sketch.add(0);
+    }
+    for (int i = 0; i < 70; i++) {
+      sketch.add(500);
+    }
+    assertAll(
+      message,
+      () -> assertEquals(0, sketch.quantile(0.25), message),
+      () -> assertEquals(500, sketch.quantile(0.5), 500 * QuantileSketch.DEFAULT_ACCURACY,
+          message));
+  }
+
+  @Test
+  void merge_ShouldMatchASingleSketch() {
+    message = "Merged sketches should answer as a sketch of every value would";
+    QuantileSketch left = new QuantileSketch();
+    QuantileSketch right = new QuantileSketch();
+    for (int i = 1; i <= 10_000; i++) {
+      sketch.add(i);
+      (i % 2 == 0 ? left : right).add(i);
+    }
+    left.merge(right);
+    assertAll(
+      message,
+      () -> assertEquals(sketch.getCount(), left.getCount(), message),
+      () -> assertEquals(sketch.quantile(0.1), left.quantile(0.1), message),
+      () -> assertEquals(sketch.quantile(0.9), left.quantile(0.9), message));
+  }
+
+  @Test
+  void merge_DifferentAccuracyShouldThrowIAE() {
+    message = "Sketches of different accuracy cannot be merged";
+    assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(0.01)),
+        message);
+  }
+
+  @Test
+  void quantile_EmptySketchShouldBeNaN() {
+    message = "An empty sketch has no quantiles";
+    assertAll(
+      message,
+      () -> assertTrue(Double.isNaN(sketch.quantile(0.5)), message),
+      () -> assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5), message));
+  }
+}
@@ -0,0 +1,139 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+import com.frijolie.cards.blackjack.model.players.Action;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimulatorTest {
+
+  private RuleSet rules;
+  private Simulator simulator;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    rules = new RuleSet(6, 0.75, true, true, false, BigDecimal.TEN, true, true, false);
+    simulator = new Simulator(rules, PlayerStrategy.MIMIC_DEALER);
+  }
+
+  @AfterEach
+  void tearDown() {
+    rules = null;
+    simulator = null;
+  }
+
+  @Test
+  void run_ShouldPlayEveryRoundRequested() {
+    message = "Every round requested should be played, divided between the workers";
+    SimulationResult result = simulator.run(10_001, 1L, 4);
+    assertAll(
+      message,
+      () -> assertEquals(10_001, result.getRounds()),
+      () -> assertEquals(result.getHands(),
+          result.getWins() + result.getLosses() + result.getPushes()));
+  }
+
+  @Test
+  void run_SameSeedAndWorkersShouldBeReproducible() {
+    message = "Two runs with the same seed and number of workers should have the same outcome";
+    SimulationResult first = simulator.run(20_000, 42L, 3);
+    SimulationResult second = simulator.run(20_000, 42L, 3);
+    assertAll(
+      message,
+      () -> assertEquals(first.getWins(), second.getWins()),
+      () -> assertEquals(first.getLosses(), second.getLosses()),
+      () -> assertEquals(first.getTotal(), second.getTotal()));
+  }
+
+  @Test
+  void run_MimicTheDealerShouldLoseAboutFivePercent() {
+    message = "Mimicking the dealer has a house edge of roughly 5.5%";
+    SimulationResult result = simulator.run(400_000, 7L);
+    assertAll(
+      message,
+      () -> assertTrue(result.getExpectedValue() < -0.03),
+      () -> assertTrue(result.getExpectedValue() > -0.08),
+      () -> assertTrue(result.getStandardError() > 0));
+  }
+
+  @Test
+  void run_BasicStrategyShouldLoseLessThanMimicTheDealer() {
+    message = "Basic strategy should lose far less than mimicking the dealer";
+    SimulationResult basic = new Simulator(rules, PlayerStrategy.basic(rules)).run(400_000, 7L);
+    SimulationResult mimic = simulator.run(400_000, 7L);
+    assertAll(
+      message,
+      () -> assertTrue(basic.getExpectedValue() > -0.025),
+      () -> assertTrue(basic.getExpectedValue() > mimic.getExpectedValue()));
+  }
+
+  @Test
+  void run_SplittingAndDoublingShouldPlayMoreHandsThanRounds() {
+    message = "A strategy which splits and doubles should play more hands than rounds";
+    PlayerStrategy aggressive = (state, up, canDouble, canSplit, canSurrender) -> {
+      if (canSplit) {
+        return Action.SPLIT;
+      }
+      if (canDouble) {
+        return Action.DOUBLE_DOWN;
+      }
+      return PlayerStrategy.MIMIC_DEALER.decide(state, up, false, false, false);
+    };
+    SimulationResult result = new Simulator(rules, aggressive).run(50_000, 3L, 2);
+    assertTrue(result.getHands() > result.getRounds(), message);
+  }
+
+  @Test
+  void run_DealingTheWholeShoeShouldNotRunDryMidRound() {
+    message = "A shoe dealt to the last card should reshuffle the discards rather than run dry";
+    RuleSet oneDeck = new RuleSet(1, 1.0, true, true, false, BigDecimal.TEN, true, true, false);
+    RuleSet twoDecks = new RuleSet(2, 0.9, true, true, false, BigDecimal.TEN, true, true, false);
+    assertAll(
+      message,
+      () -> assertEquals(20_000,
+          new Simulator(oneDeck, PlayerStrategy.basic(oneDeck)).run(20_000, 11L).getRounds()),
+      () -> assertEquals(20_000,
+          new Simulator(twoDecks, PlayerStrategy.MIMIC_DEALER).run(20_000, 11L).getRounds()));
+  }
+
+  @Test
+  void run_IllegalActionShouldThrowISE() {
+    message = "Returning an action which is not allowed should throw ISE";
+    Simulator surrendering = new Simulator(rules,
+        (state, up, canDouble, canSplit, canSurrender) -> Action.SURRENDER);
+    assertThrows(IllegalStateException.class,
+        () -> surrendering.play(100, new SplittableRandom(5L)), message);
+  }
+
+  @Test
+  void run_NegativeRoundsShouldThrowIAE() {
+    message = "A negative number of rounds should throw IAE";
+    assertThrows(IllegalArgumentException.class, () -> simulator.run(-1, 1L), message);
+  }
+
+  @Test
+  void simulationResult_MergeShouldAddCountsAndSums() {
+    message = "Merging results should add their counts and sums";
+    SimulationResult first = simulator.play(1_000, new SplittableRandom(1L));
+    SimulationResult second = simulator.play(2_000, new SplittableRandom(2L));
+    double total = first.getTotal() + second.getTotal();
+    long hands = first.getHands() + second.getHands();
+    first.merge(second);
+    assertAll(
+      message,
+      () -> assertEquals(3_000, first.getRounds()),
+      () -> assertEquals(hands, first.getHands()),
+      () -> assertEquals(total, first.getTotal(), 1e-9));
+  }
+}
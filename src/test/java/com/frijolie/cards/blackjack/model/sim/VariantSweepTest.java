@@ -0,0 +1,99 @@
+package com.frijolie.cards.blackjack.model.sim;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.frijolie.cards.blackjack.model.game.RuleSet;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VariantSweepTest {
+
+  private static final Function<RuleSet, PlayerStrategy> MIMIC =
+      rules -> PlayerStrategy.MIMIC_DEALER;
+
+  private List<RuleSet> variants;
+  private String message;
+
+  @BeforeEach
+  void setUp() {
+    variants = VariantSweep.variants(1, 2).subList(0, 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    variants = null;
+  }
+
+  @Test
+  void variants_ShouldExpandEveryCombinationForEachDeck() {
+    message = "Eight deck counts and 24 distinct combinations of five toggles should give 192 "
+        + "variants";
+    List<RuleSet> all = VariantSweep.variants(1, 8);
+    assertAll(
+      message,
+      () -> assertEquals(192, all.size()),
+      () -> assertEquals(1, all.get(0).getNumberOfDecks()),
+      () -> assertEquals(8, all.get(191).getNumberOfDecks()),
+      () -> assertTrue(all.stream().noneMatch(
+          rules -> rules.isSplitOnValue() && !rules.isSplitsAllowed())));
+  }
+
+  @Test
+  void run_WideTargetShouldStopAfterOneBatch() {
+    message = "A variant whose interval is already narrow enough should stop after one batch";
+    VariantSweep sweep = new VariantSweep(MIMIC, 1.0, 1_000, 100_000);
+    for (VariantResult result : sweep.run(variants, 1L)) {
+      assertEquals(1_000, result.getResult().getRounds(), message);
+    }
+  }
+
+  @Test
+  void run_NarrowTargetShouldStopAtMaxRounds() {
+    message = "A variant which never reaches its target should stop at the maximum rounds";
+    VariantSweep sweep = new VariantSweep(MIMIC, 0.0, 1_000, 3_500);
+    for (VariantResult result : sweep.run(variants, 1L)) {
+      assertEquals(3_500, result.getResult().getRounds(), message);
+    }
+  }
+
+  @Test
+  void run_ShouldBeReproducibleAndKeepVariantOrder() {
+    message = "A sweep should return its variants in order, with reproducible results";
+    VariantSweep sweep = new VariantSweep(MIMIC, 0.0, 1_000, 2_000);
+    List<VariantResult> first = sweep.run(variants, 9L);
+    List<VariantResult> second = sweep.run(variants, 9L);
+    for (int i = 0; i < variants.size(); i++) {
+      assertEquals(variants.get(i), first.get(i).getRuleSet(), message);
+      assertEquals(first.get(i).getHouseEdge(), second.get(i).getHouseEdge(), message);
+    }
+  }
+
+  @Test
+  void writeCsv_ShouldWriteHeaderAndOneRowPerVariant() {
+    message = "The CSV table should have a header and one row per variant";
+    VariantSweep sweep = new VariantSweep(MIMIC, 1.0, 500, 500);
+    StringBuilder out = new StringBuilder();
+    VariantSweep.writeCsv(sweep.run(variants, 1L), out);
+    String[] lines = out.toString().split(System.lineSeparator());
+    assertAll(
+      message,
+      () -> assertEquals(variants.size() + 1, lines.length),
+      () -> assertEquals(VariantSweep.CSV_HEADER, lines[0]),
+      () -> assertTrue(lines[1].startsWith("1,false,false,false,false,false,500,")));
+  }
+
+  @Test
+  void constructor_BatchLargerThanMaxShouldThrowIAE() {
+    message = "A batch larger than the maximum number of rounds should throw IAE";
+    assertThrows(IllegalArgumentException.class,
+        () -> new VariantSweep(MIMIC, 0.01, 10, 5), message);
+  }
+}